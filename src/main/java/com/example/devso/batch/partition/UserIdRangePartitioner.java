@@ -0,0 +1,51 @@
+package com.example.devso.batch.partition;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * users.id 범위를 gridSize개 구간으로 나누는 파티셔너
+ * - 각 파티션 ExecutionContext에 minId / maxId 저장
+ */
+public class UserIdRangePartitioner implements Partitioner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserIdRangePartitioner(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, Long> range = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MIN(id), 1) AS min_id, COALESCE(MAX(id), 0) AS max_id FROM users",
+                (rs, rowNum) -> Map.of("min", rs.getLong("min_id"), "max", rs.getLong("max_id")));
+        long min = range.get("min");
+        long max = range.get("max");
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        long total = Math.max(0, max - min + 1);
+        long size = Math.max(1, (total + gridSize - 1) / gridSize);
+
+        int index = 0;
+        for (long start = min; start <= max; start += size) {
+            ExecutionContext context = new ExecutionContext();
+            context.putLong("minId", start);
+            context.putLong("maxId", Math.min(max, start + size - 1));
+            partitions.put("partition" + index++, context);
+        }
+
+        // 유저가 없으면 빈 파티션 하나
+        if (partitions.isEmpty()) {
+            ExecutionContext context = new ExecutionContext();
+            context.putLong("minId", 1);
+            context.putLong("maxId", 0);
+            partitions.put("partition0", context);
+        }
+        return partitions;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.devso.batch.scheduler;
+
+import com.example.devso.repository.AccountDeletionTaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class AccountDeletionScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job accountDeletionJob;
+    private final AccountDeletionTaskRepository accountDeletionTaskRepository;
+
+    public AccountDeletionScheduler(JobLauncher jobLauncher,
+                                    Job accountDeletionJob,
+                                    AccountDeletionTaskRepository accountDeletionTaskRepository) {
+        this.jobLauncher = jobLauncher;
+        this.accountDeletionJob = accountDeletionJob;
+        this.accountDeletionTaskRepository = accountDeletionTaskRepository;
+    }
+
+    // 1분마다 미완료 탈퇴 정리 작업이 있으면 실행 (중단된 작업도 저장된 단계부터 이어서 진행)
+    @Scheduled(fixedDelayString = "${account-deletion.poll-ms:60000}", initialDelay = 60000)
+    public void runAccountDeletionJob() {
+        if (accountDeletionTaskRepository.countPending() == 0) {
+            return;
+        }
+        try {
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addLong("time", System.currentTimeMillis())
+                    .toJobParameters();
+            jobLauncher.run(accountDeletionJob, jobParameters);
+            log.info("[AccountDeletion] 탈퇴 정리 잡 실행 완료");
+        } catch (Exception e) {
+            log.error("[AccountDeletion] 탈퇴 정리 잡 실행 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.devso.batch.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class FollowSuggestionScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job followSuggestionJob;
+
+    public FollowSuggestionScheduler(JobLauncher jobLauncher, Job followSuggestionJob) {
+        this.jobLauncher = jobLauncher;
+        this.followSuggestionJob = followSuggestionJob;
+    }
+
+    // 매일 새벽 4시 (트래픽이 가장 적은 시간대)
+    @Scheduled(cron = "0 0 4 * * ?", zone = "Asia/Seoul")
+    public void runFollowSuggestionJob() {
+        try {
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addLong("time", System.currentTimeMillis())
+                    .toJobParameters();
+            jobLauncher.run(followSuggestionJob, jobParameters);
+            log.info("[FollowSuggestion] 추천 계산 잡 실행 완료");
+        } catch (Exception e) {
+            log.error("[FollowSuggestion] 추천 계산 잡 실행 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.devso.batch.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class RecruitAutoCloseScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job recruitAutoCloseJob;
+
+    public RecruitAutoCloseScheduler(JobLauncher jobLauncher, Job recruitAutoCloseJob) {
+        this.jobLauncher = jobLauncher;
+        this.recruitAutoCloseJob = recruitAutoCloseJob;
+    }
+
+    // 매일 00:05 (날짜가 바뀐 직후 어제 마감된 모집글 정리)
+    @Scheduled(cron = "0 5 0 * * ?", zone = "Asia/Seoul")
+    public void runRecruitAutoCloseJob() {
+        try {
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addLong("time", System.currentTimeMillis())
+                    .toJobParameters();
+            jobLauncher.run(recruitAutoCloseJob, jobParameters);
+            log.info("[RecruitAutoClose] 자동 마감 잡 실행 완료");
+        } catch (Exception e) {
+            log.error("[RecruitAutoClose] 자동 마감 잡 실행 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.devso.batch.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class RecruitRecommendationScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job recruitRecommendationJob;
+
+    public RecruitRecommendationScheduler(JobLauncher jobLauncher, Job recruitRecommendationJob) {
+        this.jobLauncher = jobLauncher;
+        this.recruitRecommendationJob = recruitRecommendationJob;
+    }
+
+    // 매일 새벽 4시 30분 (팔로우 추천 이후, 최신 가산점이 하루 단위로 바뀌므로 매일 재계산)
+    @Scheduled(cron = "0 30 4 * * ?", zone = "Asia/Seoul")
+    public void runRecruitRecommendationJob() {
+        try {
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addLong("time", System.currentTimeMillis())
+                    .toJobParameters();
+            jobLauncher.run(recruitRecommendationJob, jobParameters);
+            log.info("[RecruitRecommendation] 추천 계산 잡 실행 완료");
+        } catch (Exception e) {
+            log.error("[RecruitRecommendation] 추천 계산 잡 실행 실패: {}", e.getMessage(), e);
+        }
+    }
+}
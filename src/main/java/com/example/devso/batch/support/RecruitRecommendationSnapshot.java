@@ -0,0 +1,137 @@
+package com.example.devso.batch.support;
+
+import com.example.devso.entity.recruit.RecruitStatus;
+import com.example.devso.entity.recruit.TechStack;
+import com.example.devso.service.recruit.RecruitRecommendationService;
+import lombok.Getter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+/**
+ * 모집글 추천 계산용 모집 중인 글 스냅샷
+ * - RecruitRecommendationJob 첫 스텝에서 한 번 로딩하고, 파티션 워커들이 읽기 전용으로 공유
+ * - 모집글은 배열 인덱스로 다루고, 스택(ordinal)별로 해당 모집글 인덱스 목록을 둠
+ * - maxRecruitId: 로딩 시점의 최대 모집글 ID (이후 작성된 글은 워커가 슬라이스마다 따로 조회해서 반영)
+ */
+@Component
+public class RecruitRecommendationSnapshot {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Getter
+    private volatile int size;
+    @Getter
+    private volatile long maxRecruitId;
+    private volatile long[] ids = new long[0];
+    private volatile long[] authorIds = new long[0];
+    private volatile long[] createdDays = new long[0];
+    private volatile int[][] recruitsByStack = new int[0][];
+
+    public RecruitRecommendationSnapshot(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void load() {
+        long today = RecruitRecommendationService.today();
+        // 목록 조회보다 먼저 읽어야 사이에 작성된 글이 양쪽에서 모두 빠지지 않음
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM recruits", Long.class);
+        Rows rows = new Rows();
+        jdbcTemplate.query("""
+                SELECT id, user_id, stack_mask, created_at
+                FROM recruits
+                WHERE status = ? AND deleted_at IS NULL AND stack_mask <> 0
+                ORDER BY id
+                """, (RowCallbackHandler) rs -> {
+            Timestamp createdAt = rs.getTimestamp(4);
+            rows.add(rs.getLong(1), rs.getLong(2), rs.getLong(3),
+                    createdAt == null ? today - RecruitRecommendationService.RECENCY_DAYS
+                            : createdAt.toLocalDateTime().toLocalDate().toEpochDay());
+        }, RecruitStatus.OPEN.ordinal());
+
+        int stackCount = TechStack.values().length;
+        int[] counts = new int[stackCount];
+        for (int i = 0; i < rows.size; i++) {
+            for (long m = rows.stackMasks[i]; m != 0; m &= m - 1) {
+                int ordinal = Long.numberOfTrailingZeros(m);
+                if (ordinal < stackCount) {
+                    counts[ordinal]++;
+                }
+            }
+        }
+        int[][] byStack = new int[stackCount][];
+        for (int s = 0; s < stackCount; s++) {
+            byStack[s] = new int[counts[s]];
+            counts[s] = 0;
+        }
+        for (int i = 0; i < rows.size; i++) {
+            for (long m = rows.stackMasks[i]; m != 0; m &= m - 1) {
+                int ordinal = Long.numberOfTrailingZeros(m);
+                if (ordinal < stackCount) {
+                    byStack[ordinal][counts[ordinal]++] = i;
+                }
+            }
+        }
+
+        this.ids = Arrays.copyOf(rows.ids, rows.size);
+        this.authorIds = Arrays.copyOf(rows.authorIds, rows.size);
+        this.createdDays = Arrays.copyOf(rows.createdDays, rows.size);
+        this.recruitsByStack = byStack;
+        this.maxRecruitId = maxId == null ? 0L : maxId;
+        this.size = rows.size;
+    }
+
+    // 잡 종료 후 메모리 반환
+    public void clear() {
+        this.size = 0;
+        this.maxRecruitId = 0L;
+        this.ids = new long[0];
+        this.authorIds = new long[0];
+        this.createdDays = new long[0];
+        this.recruitsByStack = new int[0][];
+    }
+
+    public long idAt(int index) {
+        return ids[index];
+    }
+
+    public long authorIdAt(int index) {
+        return authorIds[index];
+    }
+
+    public long createdDayAt(int index) {
+        return createdDays[index];
+    }
+
+    public int[] recruitsWithStack(int ordinal) {
+        return ordinal < recruitsByStack.length ? recruitsByStack[ordinal] : EMPTY;
+    }
+
+    // 로딩 중 임시 버퍼
+    private static final class Rows {
+        private long[] ids = new long[256];
+        private long[] authorIds = new long[256];
+        private long[] stackMasks = new long[256];
+        private long[] createdDays = new long[256];
+        private int size;
+
+        void add(long id, long authorId, long stackMask, long createdDay) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                authorIds = Arrays.copyOf(authorIds, size * 2);
+                stackMasks = Arrays.copyOf(stackMasks, size * 2);
+                createdDays = Arrays.copyOf(createdDays, size * 2);
+            }
+            ids[size] = id;
+            authorIds[size] = authorId;
+            stackMasks[size] = stackMask;
+            createdDays[size] = createdDay;
+            size++;
+        }
+    }
+}
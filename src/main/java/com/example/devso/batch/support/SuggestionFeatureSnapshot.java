@@ -0,0 +1,191 @@
+package com.example.devso.batch.support;
+
+import lombok.Getter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 팔로우 추천 계산용 유저 특성 스냅샷
+ * - FollowSuggestionJob 첫 스텝에서 한 번 로딩하고, 파티션 워커들이 읽기 전용으로 공유
+ * - 유저 ID를 배열 인덱스로 사용 (users.id는 AUTO_INCREMENT)
+ * - 인기 스킬/스택의 보유 유저는 실행마다 다른 시드로 reservoir 샘플링 (앞쪽 ID만 남아 신규 유저가 빠지지 않도록)
+ */
+@Component
+public class SuggestionFeatureSnapshot {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Getter
+    private volatile int maxUserId;
+    private volatile boolean[] active = new boolean[0];
+    // 유저별 스킬(정규화된 이름 -> 사전 ID) 정렬 배열
+    private volatile int[][] userSkills = new int[0][];
+    // 스킬별 보유 유저 (후보 생성용, 인기 스킬은 maxUsersPerFeature명 샘플)
+    private volatile int[][] skillUsers = new int[0][];
+    // 유저가 작성한 모집글의 기술 스택 비트마스크 (TechStack ordinal)
+    private volatile long[] stackMasks = new long[0];
+    private volatile int[][] stackUsers = new int[0][];
+
+    public SuggestionFeatureSnapshot(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void load(int maxUsersPerFeature) {
+        SplittableRandom random = new SplittableRandom();
+        int max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM users", Integer.class);
+
+        boolean[] newActive = new boolean[max + 1];
+        jdbcTemplate.query("SELECT id FROM users WHERE deleted_at IS NULL", (RowCallbackHandler) rs -> {
+            newActive[(int) rs.getLong(1)] = true;
+        });
+
+        // 스킬: 이름을 소문자/공백 제거로 정규화해서 사전 ID 부여
+        Map<String, Integer> dictionary = new HashMap<>();
+        IntListTable skillsByUser = new IntListTable(max + 1);
+        jdbcTemplate.query("SELECT user_id, name FROM skills WHERE user_id IS NOT NULL AND deleted_at IS NULL AND name IS NOT NULL",
+                (RowCallbackHandler) rs -> {
+                    int userId = (int) rs.getLong(1);
+                    String key = rs.getString(2).trim().toLowerCase().replace(" ", "");
+                    if (userId <= max && !key.isEmpty()) {
+                        skillsByUser.add(userId, dictionary.computeIfAbsent(key, k -> dictionary.size()));
+                    }
+                });
+        int[][] newUserSkills = skillsByUser.toSortedArrays();
+        IntListTable usersBySkill = new IntListTable(dictionary.size(), random);
+        for (int userId = 0; userId < newUserSkills.length; userId++) {
+            for (int skill : newUserSkills[userId]) {
+                usersBySkill.addSampled(skill, userId, maxUsersPerFeature);
+            }
+        }
+
+        // 기술 스택: 본인이 작성한 모집글 기준 (recruits.stack_mask를 OR)
+        long[] newStackMasks = new long[max + 1];
+        jdbcTemplate.query("""
+                SELECT user_id, stack_mask
+                FROM recruits
+                WHERE deleted_at IS NULL AND stack_mask <> 0
+                """, (RowCallbackHandler) rs -> {
+            int userId = (int) rs.getLong(1);
+            if (userId <= max) {
+                newStackMasks[userId] |= rs.getLong(2);
+            }
+        });
+        IntListTable usersByStack = new IntListTable(Long.SIZE, random);
+        for (int userId = 0; userId < newStackMasks.length; userId++) {
+            long mask = newStackMasks[userId];
+            while (mask != 0) {
+                usersByStack.addSampled(Long.numberOfTrailingZeros(mask), userId, maxUsersPerFeature);
+                mask &= mask - 1;
+            }
+        }
+
+        this.active = newActive;
+        this.userSkills = newUserSkills;
+        this.skillUsers = usersBySkill.toSortedArrays();
+        this.stackMasks = newStackMasks;
+        this.stackUsers = usersByStack.toSortedArrays();
+        this.maxUserId = max;
+    }
+
+    // 잡 종료 후 메모리 반환
+    public void clear() {
+        this.maxUserId = 0;
+        this.active = new boolean[0];
+        this.userSkills = new int[0][];
+        this.skillUsers = new int[0][];
+        this.stackMasks = new long[0];
+        this.stackUsers = new int[0][];
+    }
+
+    public boolean isActive(long userId) {
+        return userId >= 0 && userId < active.length && active[(int) userId];
+    }
+
+    public int[] skillsOf(long userId) {
+        return userId < userSkills.length ? userSkills[(int) userId] : EMPTY;
+    }
+
+    public int[] usersWithSkill(int skill) {
+        return skillUsers[skill];
+    }
+
+    public long stackMaskOf(long userId) {
+        return userId < stackMasks.length ? stackMasks[(int) userId] : 0L;
+    }
+
+    public int[] usersWithStack(int stack) {
+        return stackUsers[stack];
+    }
+
+    // key별 int 목록을 모았다가 정렬/중복 제거된 int[]로 변환
+    private static final class IntListTable {
+        private final int[][] rows;
+        private final int[] sizes;
+        // addSampled용: key별로 지금까지 들어온 값 개수, 샘플링 난수
+        private final long[] offered;
+        private final SplittableRandom random;
+
+        IntListTable(int keys) {
+            this(keys, null);
+        }
+
+        IntListTable(int keys, SplittableRandom random) {
+            this.rows = new int[keys][];
+            this.sizes = new int[keys];
+            this.offered = random == null ? null : new long[keys];
+            this.random = random;
+        }
+
+        void add(int key, int value) {
+            int[] row = rows[key];
+            if (row == null) {
+                row = rows[key] = new int[4];
+            } else if (sizes[key] == row.length) {
+                row = rows[key] = Arrays.copyOf(row, row.length * 2);
+            }
+            row[sizes[key]++] = value;
+        }
+
+        // reservoir 샘플링: 들어온 값 중 cap개를 균등 확률로 유지 (key별 값은 중복 없이 들어온다고 가정)
+        void addSampled(int key, int value, int cap) {
+            long n = ++offered[key];
+            if (sizes[key] < cap) {
+                add(key, value);
+                return;
+            }
+            long slot = random.nextLong(n);
+            if (slot < cap) {
+                rows[key][(int) slot] = value;
+            }
+        }
+
+        int[][] toSortedArrays() {
+            int[][] result = new int[rows.length][];
+            for (int key = 0; key < rows.length; key++) {
+                int n = sizes[key];
+                if (n == 0) {
+                    result[key] = EMPTY;
+                    continue;
+                }
+                int[] row = rows[key];
+                Arrays.sort(row, 0, n);
+                int w = 1;
+                for (int r = 1; r < n; r++) {
+                    if (row[r] != row[w - 1]) {
+                        row[w++] = row[r];
+                    }
+                }
+                result[key] = Arrays.copyOf(row, w);
+            }
+            return result;
+        }
+    }
+}
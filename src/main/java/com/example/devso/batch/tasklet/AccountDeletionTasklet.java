@@ -0,0 +1,267 @@
+package com.example.devso.batch.tasklet;
+
+import com.example.devso.entity.AccountDeletionStage;
+import com.example.devso.service.ContributorLeaderboard;
+import com.example.devso.service.FollowGraph;
+import com.example.devso.service.PostLikerCache;
+import com.example.devso.service.UserStatsService;
+import com.example.devso.service.recruit.RecruitFacetIndex;
+import com.example.devso.service.recruit.RecruitRecommendationService;
+import com.example.devso.util.TransactionHooks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원 탈퇴 후 연관 데이터 정리
+ * - execute 1회 = 가장 오래된 미완료 작업의 현재 단계 1청크 (청크마다 커밋, CONTINUABLE)
+ * - 청크 사이에 pauseMillis만큼 쉬어서 서비스 트래픽과 잠금 경합을 줄임
+ * - 좋아요 / 팔로우는 서비스 로직과 같이 hard delete + 카운터 보정, 나머지는 soft delete
+ *   (soft delete된 row는 SoftDeleteCleanupTasklet이 나중에 정리)
+ */
+@Slf4j
+@Component
+public class AccountDeletionTasklet implements Tasklet {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserStatsService userStatsService;
+    private final FollowGraph followGraph;
+    private final PostLikerCache postLikerCache;
+    private final ContributorLeaderboard contributorLeaderboard;
+    private final RecruitFacetIndex recruitFacetIndex;
+    private final RecruitRecommendationService recruitRecommendationService;
+    private final int chunkSize;
+    private final long pauseMillis;
+
+    public AccountDeletionTasklet(JdbcTemplate jdbcTemplate,
+                                  UserStatsService userStatsService,
+                                  FollowGraph followGraph,
+                                  PostLikerCache postLikerCache,
+                                  ContributorLeaderboard contributorLeaderboard,
+                                  RecruitFacetIndex recruitFacetIndex,
+                                  RecruitRecommendationService recruitRecommendationService,
+                                  @Value("${account-deletion.chunk-size:500}") int chunkSize,
+                                  @Value("${account-deletion.pause-ms:200}") long pauseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userStatsService = userStatsService;
+        this.followGraph = followGraph;
+        this.postLikerCache = postLikerCache;
+        this.contributorLeaderboard = contributorLeaderboard;
+        this.recruitFacetIndex = recruitFacetIndex;
+        this.recruitRecommendationService = recruitRecommendationService;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        // 첫 청크 이후부터 쉬고 시작 (아직 아무 잠금도 잡지 않은 상태)
+        if (pauseMillis > 0 && contribution.getStepExecution().getCommitCount() > 0) {
+            Thread.sleep(pauseMillis);
+        }
+
+        List<Map<String, Object>> tasks = jdbcTemplate.queryForList("""
+                SELECT id, user_id, stage
+                FROM account_deletion_tasks
+                WHERE completed_at IS NULL
+                ORDER BY id
+                LIMIT 1
+                FOR UPDATE
+                """);
+        if (tasks.isEmpty()) {
+            return RepeatStatus.FINISHED;
+        }
+        long taskId = ((Number) tasks.get(0).get("id")).longValue();
+        long userId = ((Number) tasks.get(0).get("user_id")).longValue();
+        AccountDeletionStage stage = AccountDeletionStage.values()[((Number) tasks.get(0).get("stage")).intValue()];
+
+        int processed = switch (stage) {
+            case POST_LIKES -> deleteLikes(userId);
+            case FOLLOWS -> deleteFollows(userId);
+            case COMMENTS -> softDelete("comments", userId);
+            case RECRUIT_COMMENTS -> softDeleteRecruitComments(userId);
+            case POSTS -> softDelete("posts", userId);
+            case RECRUITS -> softDeleteRecruits(userId);
+            case RECRUIT_BOOKMARKS -> softDeleteRecruitBookmarks(userId);
+            case CHAT_MEMBERSHIPS -> softDelete("chat_room_member", userId);
+            case FINALIZE -> finalizeUser(userId);
+            case DONE -> 0;
+        };
+
+        // 청크가 덜 찼으면 이 단계는 끝 (FINALIZE는 한 번에 끝나는 단계)
+        boolean stageDone = stage == AccountDeletionStage.FINALIZE || processed < chunkSize;
+        AccountDeletionStage nextStage = stageDone ? stage.next() : stage;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("""
+                UPDATE account_deletion_tasks
+                SET stage = ?, processed_count = processed_count + ?, updated_at = ?,
+                    completed_at = CASE WHEN ? THEN ? ELSE NULL END
+                WHERE id = ?
+                """, nextStage.ordinal(), processed, now, nextStage == AccountDeletionStage.DONE, now, taskId);
+
+        contribution.incrementWriteCount(processed);
+        if (nextStage == AccountDeletionStage.DONE) {
+            log.info("[AccountDeletion] 정리 완료 - userId: {}", userId);
+        }
+        return RepeatStatus.CONTINUABLE;
+    }
+
+    // 내가 누른 좋아요: 삭제 후 게시물 작성자의 받은 좋아요 수 보정
+    private int deleteLikes(long userId) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+                SELECT pl.id, pl.post_id, pl.created_at, p.user_id AS owner_id
+                FROM post_likes pl
+                INNER JOIN posts p ON p.id = pl.post_id
+                WHERE pl.user_id = ?
+                ORDER BY pl.id
+                LIMIT ?
+                """, userId, chunkSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> likesByOwner = new HashMap<>();
+        List<Object[]> ids = rows.stream().map(row -> new Object[]{row.get("id")}).toList();
+        jdbcTemplate.batchUpdate("DELETE FROM post_likes WHERE id = ?", ids);
+        for (Map<String, Object> row : rows) {
+            long postId = ((Number) row.get("post_id")).longValue();
+            long ownerId = ((Number) row.get("owner_id")).longValue();
+            LocalDateTime likedAt = toLocalDateTime(row.get("created_at"));
+            likesByOwner.merge(ownerId, 1L, Long::sum);
+            TransactionHooks.afterCommit(() -> {
+                postLikerCache.evict(postId);
+                contributorLeaderboard.onLikeRemoved(ownerId, likedAt);
+            });
+        }
+        likesByOwner.forEach((ownerId, count) -> userStatsService.onLikesReceivedChanged(ownerId, -count));
+        return rows.size();
+    }
+
+    // 팔로우/팔로워 관계: 삭제 후 상대방 카운터 + 팔로우 그래프 보정
+    private int deleteFollows(long userId) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+                SELECT id, follower_id, following_id
+                FROM follows
+                WHERE follower_id = ? OR following_id = ?
+                ORDER BY id
+                LIMIT ?
+                """, userId, userId, chunkSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> ids = rows.stream().map(row -> new Object[]{row.get("id")}).toList();
+        jdbcTemplate.batchUpdate("DELETE FROM follows WHERE id = ?", ids);
+        for (Map<String, Object> row : rows) {
+            long followerId = ((Number) row.get("follower_id")).longValue();
+            long followingId = ((Number) row.get("following_id")).longValue();
+            userStatsService.onFollowChanged(followerId, followingId, -1);
+            TransactionHooks.afterCommit(() -> followGraph.onUnfollow(followerId, followingId));
+        }
+        return rows.size();
+    }
+
+    // 모집글 댓글: soft delete 후 모집글 댓글 수 보정
+    private int softDeleteRecruitComments(long userId) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+                SELECT id, recruit_id
+                FROM recruit_comments
+                WHERE user_id = ? AND deleted_at IS NULL
+                ORDER BY id
+                LIMIT ?
+                """, userId, chunkSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Map<Long, Long> countByRecruit = new HashMap<>();
+        List<Object[]> ids = rows.stream().map(row -> new Object[]{now, row.get("id")}).toList();
+        jdbcTemplate.batchUpdate("UPDATE recruit_comments SET deleted_at = ? WHERE id = ?", ids);
+        for (Map<String, Object> row : rows) {
+            countByRecruit.merge(((Number) row.get("recruit_id")).longValue(), 1L, Long::sum);
+        }
+        List<Object[]> counts = countByRecruit.entrySet().stream()
+                .map(e -> new Object[]{e.getValue(), e.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate("UPDATE recruits SET comment_count = GREATEST(0, comment_count - ?) WHERE id = ?", counts);
+        return rows.size();
+    }
+
+    // 모집글 북마크: soft delete 후 모집글 북마크 수 보정
+    private int softDeleteRecruitBookmarks(long userId) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+                SELECT id, recruit_id
+                FROM recruit_bookmarks
+                WHERE user_id = ? AND deleted_at IS NULL
+                ORDER BY id
+                LIMIT ?
+                """, userId, chunkSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Map<Long, Long> countByRecruit = new HashMap<>();
+        List<Object[]> ids = rows.stream().map(row -> new Object[]{now, row.get("id")}).toList();
+        jdbcTemplate.batchUpdate("UPDATE recruit_bookmarks SET deleted_at = ? WHERE id = ?", ids);
+        for (Map<String, Object> row : rows) {
+            countByRecruit.merge(((Number) row.get("recruit_id")).longValue(), 1L, Long::sum);
+        }
+        List<Object[]> counts = countByRecruit.entrySet().stream()
+                .map(e -> new Object[]{e.getValue(), e.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate("UPDATE recruits SET bookmark_count = GREATEST(0, bookmark_count - ?) WHERE id = ?", counts);
+        return rows.size();
+    }
+
+    // 모집글은 목록 필터 인덱스에서도 빼야 하므로 ID를 먼저 잠그고 삭제
+    private int softDeleteRecruits(long userId) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM recruits WHERE user_id = ? AND deleted_at IS NULL LIMIT ? FOR UPDATE",
+                Long.class, userId, chunkSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("UPDATE recruits SET deleted_at = ? WHERE id = ?",
+                ids.stream().map(id -> new Object[]{now, id}).toList());
+        recruitRecommendationService.onRecruitsRemoved(ids);
+        TransactionHooks.afterCommit(() -> ids.forEach(recruitFacetIndex::remove));
+        return ids.size();
+    }
+
+    // table은 내부 상수만 전달됨 (사용자 입력 아님)
+    private int softDelete(String table, long userId) {
+        return jdbcTemplate.update(
+                "UPDATE " + table + " SET deleted_at = ? WHERE user_id = ? AND deleted_at IS NULL LIMIT ?",
+                Timestamp.valueOf(LocalDateTime.now()), userId, chunkSize);
+    }
+
+    // 본인 추천 결과 / 집계 row 정리 (유저 row 자체는 이미 soft delete 상태)
+    // 다른 유저의 추천 목록에 남은 항목은 조회 시 탈퇴 유저가 걸러지고 다음 추천 계산 때 사라짐
+    private int finalizeUser(long userId) {
+        int deleted = jdbcTemplate.update("DELETE FROM follow_suggestions WHERE user_id = ?", userId);
+        deleted += jdbcTemplate.update("DELETE FROM user_stats WHERE user_id = ?", userId);
+        return deleted;
+    }
+
+    // 드라이버 버전에 따라 DATETIME이 LocalDateTime 또는 Timestamp로 매핑됨
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return value instanceof LocalDateTime dateTime ? dateTime : null;
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.devso.batch.tasklet;
+
+import com.example.devso.batch.support.SuggestionFeatureSnapshot;
+import com.example.devso.service.FollowGraph;
+import com.example.devso.util.TopK;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 팔로우 추천 잡 2단계 (파티션 워커)
+ * - 담당 users.id 구간을 sliceSize명씩 처리하고, 슬라이스마다 커밋(CONTINUABLE)
+ * - 점수 = 함께 아는 사람(2-hop) * 10 + 공통 스킬 * 3 + 공통 모집 스택 * 2
+ * - 유저별 상위 topK만 follow_suggestions에 저장
+ * - 팔로잉이 maxFanout명을 넘는 사람은 실행마다 다른 위치부터 maxFanout명만 확인 (낮은 ID만 계속 보지 않도록)
+ */
+@Component
+@StepScope
+public class FollowSuggestionTasklet implements Tasklet {
+
+    private static final String CURSOR_KEY = "cursor";
+
+    private static final int MUTUAL_WEIGHT = 10;
+    private static final int SKILL_WEIGHT = 3;
+    private static final int STACK_WEIGHT = 2;
+
+    private final FollowGraph followGraph;
+    private final SuggestionFeatureSnapshot snapshot;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final long minId;
+    private final long maxId;
+    private final int sliceSize;
+    private final int topK;
+    private final int maxFanout;
+    // 2-hop 시작 위치 계산용 (스텝 실행마다 새로 뽑음)
+    private final long fanoutSeed = ThreadLocalRandom.current().nextLong();
+
+    // 워커 전용 작업 배열 (후보별 누적값, 사용 후 touched만 초기화)
+    private int[] mutualCounts;
+    private int[] skillCounts;
+    private boolean[] seen;
+    private int[] touched;
+    private int touchedSize;
+
+    public FollowSuggestionTasklet(FollowGraph followGraph,
+                                   SuggestionFeatureSnapshot snapshot,
+                                   JdbcTemplate jdbcTemplate,
+                                   @Value("#{stepExecutionContext['minId']}") Long minId,
+                                   @Value("#{stepExecutionContext['maxId']}") Long maxId,
+                                   @Value("${suggestion.slice-size:500}") int sliceSize,
+                                   @Value("${suggestion.top-k:20}") int topK,
+                                   @Value("${suggestion.max-fanout:1000}") int maxFanout) {
+        this.followGraph = followGraph;
+        this.snapshot = snapshot;
+        this.jdbcTemplate = jdbcTemplate;
+        this.minId = minId;
+        this.maxId = maxId;
+        this.sliceSize = sliceSize;
+        this.topK = topK;
+        this.maxFanout = maxFanout;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext context = contribution.getStepExecution().getExecutionContext();
+        long from = context.containsKey(CURSOR_KEY) ? context.getLong(CURSOR_KEY) : minId;
+        if (from > maxId) {
+            return RepeatStatus.FINISHED;
+        }
+        long to = Math.min(maxId, from + sliceSize - 1);
+
+        ensureBuffers();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (long userId = from; userId <= to; userId++) {
+            if (snapshot.isActive(userId)) {
+                collect(userId, now, rows);
+            }
+        }
+
+        // 구간 단위로 교체 (같은 트랜잭션)
+        jdbcTemplate.update("DELETE FROM follow_suggestions WHERE user_id BETWEEN ? AND ?", from, to);
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO follow_suggestions (user_id, suggested_user_id, score, mutual_count, created_at)
+                    VALUES (?, ?, ?, ?, ?)
+                    """, rows);
+        }
+
+        contribution.incrementWriteCount(rows.size());
+        context.putLong(CURSOR_KEY, to + 1);
+        return to >= maxId ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+
+    private void collect(long userId, LocalDateTime now, List<Object[]> rows) {
+        long[] following = followGraph.followingIds(userId);
+
+        // 1) 2-hop: 내가 팔로우하는 사람들이 팔로우하는 사람
+        for (long f : following) {
+            long[] secondHop = followGraph.followingIds(f);
+            int limit = Math.min(secondHop.length, maxFanout);
+            int start = limit < secondHop.length ? fanoutStart(f, secondHop.length) : 0;
+            for (int i = 0; i < limit; i++) {
+                int c = candidateIndex(secondHop[(start + i) % secondHop.length]);
+                if (c >= 0) {
+                    mutualCounts[c]++;
+                }
+            }
+        }
+
+        // 2) 공통 스킬
+        for (int skill : snapshot.skillsOf(userId)) {
+            for (int c : snapshot.usersWithSkill(skill)) {
+                if (candidateIndex(c) >= 0) {
+                    skillCounts[c]++;
+                }
+            }
+        }
+
+        // 3) 공통 모집 스택 (후보 등록만, 개수는 비트마스크로 계산)
+        long myStacks = snapshot.stackMaskOf(userId);
+        long mask = myStacks;
+        while (mask != 0) {
+            for (int c : snapshot.usersWithStack(Long.numberOfTrailingZeros(mask))) {
+                candidateIndex(c);
+            }
+            mask &= mask - 1;
+        }
+
+        // 상위 topK (최소 힙)
+        TopK top = new TopK(topK);
+        for (int i = 0; i < touchedSize; i++) {
+            int c = touched[i];
+            if (c != userId && snapshot.isActive(c) && Arrays.binarySearch(following, c) < 0) {
+                int sharedStacks = Long.bitCount(myStacks & snapshot.stackMaskOf(c));
+                int score = mutualCounts[c] * MUTUAL_WEIGHT + skillCounts[c] * SKILL_WEIGHT + sharedStacks * STACK_WEIGHT;
+                if (score > 0) {
+                    top.offer(score, c);
+                }
+            }
+            mutualCounts[c] = 0;
+            skillCounts[c] = 0;
+            seen[c] = false;
+        }
+        touchedSize = 0;
+
+        Timestamp createdAt = Timestamp.valueOf(now);
+        for (int i = 0; i < top.size(); i++) {
+            int c = top.id(i);
+            rows.add(new Object[]{userId, (long) c, top.score(i), countMutuals(c, following), createdAt});
+        }
+    }
+
+    // 팔로잉 목록에서 확인을 시작할 위치 (같은 실행에서는 사람마다 고정)
+    private int fanoutStart(long followingId, int length) {
+        long h = fanoutSeed + followingId * 0x9E3779B97F4A7C15L;
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) Math.floorMod(h, (long) length);
+    }
+
+    // 후보 등록 후 인덱스 반환 (스냅샷 이후 가입한 유저는 제외)
+    private int candidateIndex(long candidateId) {
+        if (candidateId < 0 || candidateId >= seen.length) {
+            return -1;
+        }
+        int c = (int) candidateId;
+        if (!seen[c]) {
+            seen[c] = true;
+            if (touchedSize == touched.length) {
+                touched = Arrays.copyOf(touched, touched.length * 2);
+            }
+            touched[touchedSize++] = c;
+        }
+        return c;
+    }
+
+    // 저장용 함께 아는 사람 수 (fan-out 제한 없이 정확히)
+    private int countMutuals(int candidate, long[] following) {
+        long[] followers = followGraph.followerIds(candidate);
+        int i = 0, j = 0, n = 0;
+        while (i < following.length && j < followers.length) {
+            if (following[i] < followers[j]) {
+                i++;
+            } else if (following[i] > followers[j]) {
+                j++;
+            } else {
+                n++;
+                i++;
+                j++;
+            }
+        }
+        return n;
+    }
+
+    private void ensureBuffers() {
+        int size = snapshot.getMaxUserId() + 1;
+        if (seen == null || seen.length != size) {
+            mutualCounts = new int[size];
+            skillCounts = new int[size];
+            seen = new boolean[size];
+            touched = new int[256];
+            touchedSize = 0;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.devso.batch.tasklet;
+
+import com.example.devso.entity.recruit.RecruitStatus;
+import com.example.devso.service.recruit.RecruitFacetIndex;
+import com.example.devso.service.recruit.RecruitRecommendationService;
+import com.example.devso.util.TransactionHooks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 마감일이 지난 모집글 자동 마감
+ * - execute 1회 = 마감일이 어제 이전인 OPEN 모집글 chunkSize개를 CLOSED로 (청크마다 커밋, CONTINUABLE)
+ * - 목록의 "모집 중" 필터가 status 비교만으로 끝나도록 매일 자정 직후 실행
+ * - 서버가 내려가 있어 하루를 건너뛰어도 다음 실행에서 함께 처리됨 (dead_line < 오늘)
+ */
+@Slf4j
+@Component
+public class RecruitAutoCloseTasklet implements Tasklet {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RecruitFacetIndex recruitFacetIndex;
+    private final RecruitRecommendationService recruitRecommendationService;
+    private final int chunkSize;
+
+    public RecruitAutoCloseTasklet(JdbcTemplate jdbcTemplate,
+                                   RecruitFacetIndex recruitFacetIndex,
+                                   RecruitRecommendationService recruitRecommendationService,
+                                   @Value("${recruit.auto-close.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.recruitFacetIndex = recruitFacetIndex;
+        this.recruitRecommendationService = recruitRecommendationService;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        Date today = Date.valueOf(LocalDate.now(ZONE));
+        List<Long> ids = jdbcTemplate.queryForList("""
+                SELECT id
+                FROM recruits
+                WHERE status = ? AND dead_line < ? AND deleted_at IS NULL
+                ORDER BY id
+                LIMIT ?
+                FOR UPDATE
+                """, Long.class, RecruitStatus.OPEN.ordinal(), today, chunkSize);
+        if (ids.isEmpty()) {
+            return RepeatStatus.FINISHED;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("UPDATE recruits SET status = ?, updated_at = ? WHERE id = ? AND status = ?",
+                ids.stream().map(id -> new Object[]{RecruitStatus.CLOSED.ordinal(), now, id, RecruitStatus.OPEN.ordinal()}).toList());
+        recruitRecommendationService.onRecruitsRemoved(ids);
+        TransactionHooks.afterCommit(() -> recruitFacetIndex.close(ids));
+
+        contribution.incrementWriteCount(ids.size());
+        log.info("[RecruitAutoClose] 마감 처리 - {}건", ids.size());
+        return ids.size() < chunkSize ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+}
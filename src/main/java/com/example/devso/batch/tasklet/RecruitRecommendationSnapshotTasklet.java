@@ -0,0 +1,27 @@
+package com.example.devso.batch.tasklet;
+
+import com.example.devso.batch.support.RecruitRecommendationSnapshot;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모집글 추천 잡 1단계: 모집 중인 글 스냅샷 로딩
+ */
+@Component
+public class RecruitRecommendationSnapshotTasklet implements Tasklet {
+
+    private final RecruitRecommendationSnapshot snapshot;
+
+    public RecruitRecommendationSnapshotTasklet(RecruitRecommendationSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        snapshot.load();
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.devso.batch.tasklet;
+
+import com.example.devso.batch.support.RecruitRecommendationSnapshot;
+import com.example.devso.entity.recruit.RecruitStatus;
+import com.example.devso.entity.recruit.TechStack;
+import com.example.devso.service.recruit.RecruitRecommendationService;
+import com.example.devso.util.TopK;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 모집글 추천 잡 2단계 (파티션 워커)
+ * - 담당 users.id 구간을 sliceSize명씩 처리하고, 슬라이스마다 커밋(CONTINUABLE)
+ * - 슬라이스 유저들의 스킬을 TechStack 가중치로 정규화해서 user_skill_stacks를 교체
+ * - 스택별 모집글 목록으로 겹치는 글만 훑어 점수 계산 (RecruitRecommendationService.score), 상위 topK만 저장
+ * - 스냅샷 이후 작성된 모집 중인 글도 슬라이스마다 조회해서 함께 계산
+ *   (구간을 지우고 다시 넣으므로, 그 사이 증분 반영된 추천이 사라지지 않도록)
+ */
+@Component
+@StepScope
+public class RecruitRecommendationTasklet implements Tasklet {
+
+    private static final String CURSOR_KEY = "cursor";
+
+    private final RecruitRecommendationSnapshot snapshot;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final long minId;
+    private final long maxId;
+    private final int sliceSize;
+    private final int topK;
+
+    // 워커 전용 작업 배열 (모집글 인덱스별 겹치는 가중치 합, 사용 후 touched만 초기화)
+    private int[] overlaps;
+    private int[] touched;
+    private int touchedSize;
+
+    public RecruitRecommendationTasklet(RecruitRecommendationSnapshot snapshot,
+                                        RecruitRecommendationService recruitRecommendationService,
+                                        JdbcTemplate jdbcTemplate,
+                                        @Value("#{stepExecutionContext['minId']}") Long minId,
+                                        @Value("#{stepExecutionContext['maxId']}") Long maxId,
+                                        @Value("${recommendation.slice-size:500}") int sliceSize) {
+        this.snapshot = snapshot;
+        this.jdbcTemplate = jdbcTemplate;
+        this.minId = minId;
+        this.maxId = maxId;
+        this.sliceSize = sliceSize;
+        this.topK = recruitRecommendationService.getTopK();
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext context = contribution.getStepExecution().getExecutionContext();
+        long from = context.containsKey(CURSOR_KEY) ? context.getLong(CURSOR_KEY) : minId;
+        if (from > maxId) {
+            return RepeatStatus.FINISHED;
+        }
+        long to = Math.min(maxId, from + sliceSize - 1);
+
+        ensureBuffers();
+
+        // 슬라이스 유저들의 스택 가중치 (탈퇴 유저 제외)
+        Map<Long, int[]> weightsByUser = new TreeMap<>();
+        jdbcTemplate.query("""
+                SELECT s.user_id, s.name, s.level
+                FROM skills s
+                INNER JOIN users u ON u.id = s.user_id AND u.deleted_at IS NULL
+                WHERE s.user_id BETWEEN ? AND ? AND s.deleted_at IS NULL AND s.name IS NOT NULL
+                """, (RowCallbackHandler) rs -> RecruitRecommendationService.accumulate(
+                weightsByUser.computeIfAbsent(rs.getLong(1), k -> new int[TechStack.values().length]),
+                rs.getString(2), rs.getString(3)), from, to);
+
+        long today = RecruitRecommendationService.today();
+        List<long[]> newer = loadNewerRecruits(today);
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> stackRows = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        weightsByUser.forEach((userId, weights) -> {
+            for (int ordinal = 0; ordinal < weights.length; ordinal++) {
+                if (weights[ordinal] > 0) {
+                    stackRows.add(new Object[]{userId, ordinal, weights[ordinal]});
+                }
+            }
+            collect(userId, weights, today, createdAt, newer, rows);
+        });
+
+        // 구간 단위로 교체 (같은 트랜잭션)
+        jdbcTemplate.update("DELETE FROM user_skill_stacks WHERE user_id BETWEEN ? AND ?", from, to);
+        if (!stackRows.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO user_skill_stacks (user_id, stack, weight) VALUES (?, ?, ?)", stackRows);
+        }
+        jdbcTemplate.update("DELETE FROM recruit_recommendations WHERE user_id BETWEEN ? AND ?", from, to);
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO recruit_recommendations (user_id, recruit_id, score, created_at)
+                    VALUES (?, ?, ?, ?)
+                    """, rows);
+        }
+
+        contribution.incrementWriteCount(rows.size());
+        context.putLong(CURSOR_KEY, to + 1);
+        return to >= maxId ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+
+    // 스냅샷 이후 작성된 모집 중인 글 {id, 작성자 ID, 스택 마스크, 작성일}
+    private List<long[]> loadNewerRecruits(long today) {
+        List<long[]> newer = new ArrayList<>();
+        jdbcTemplate.query("""
+                SELECT id, user_id, stack_mask, created_at
+                FROM recruits
+                WHERE id > ? AND status = ? AND deleted_at IS NULL AND stack_mask <> 0
+                """, (RowCallbackHandler) rs -> {
+            Timestamp recruitCreatedAt = rs.getTimestamp(4);
+            newer.add(new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3),
+                    recruitCreatedAt == null ? today : recruitCreatedAt.toLocalDateTime().toLocalDate().toEpochDay()});
+        }, snapshot.getMaxRecruitId(), RecruitStatus.OPEN.ordinal());
+        return newer;
+    }
+
+    private void collect(long userId, int[] weights, long today, Timestamp createdAt, List<long[]> newer,
+                         List<Object[]> rows) {
+        // 스택별 모집글을 훑으며 가중치 누적
+        for (int ordinal = 0; ordinal < weights.length; ordinal++) {
+            int weight = weights[ordinal];
+            if (weight == 0) {
+                continue;
+            }
+            for (int r : snapshot.recruitsWithStack(ordinal)) {
+                if (overlaps[r] == 0) {
+                    if (touchedSize == touched.length) {
+                        touched = Arrays.copyOf(touched, touched.length * 2);
+                    }
+                    touched[touchedSize++] = r;
+                }
+                overlaps[r] += weight;
+            }
+        }
+
+        TopK top = new TopK(topK);
+        for (int i = 0; i < touchedSize; i++) {
+            int r = touched[i];
+            if (snapshot.authorIdAt(r) != userId) {
+                top.offer(RecruitRecommendationService.score(overlaps[r], snapshot.createdDayAt(r), today), r);
+            }
+            overlaps[r] = 0;
+        }
+        touchedSize = 0;
+
+        // 스냅샷 이후 글은 스냅샷 인덱스 뒤에 이어서 번호를 붙임
+        int size = snapshot.getSize();
+        for (int i = 0; i < newer.size(); i++) {
+            long[] recruit = newer.get(i);
+            int overlap = RecruitRecommendationService.overlap(weights, recruit[2]);
+            if (overlap > 0 && recruit[1] != userId) {
+                top.offer(RecruitRecommendationService.score(overlap, recruit[3], today), size + i);
+            }
+        }
+
+        for (int i = 0; i < top.size(); i++) {
+            int index = top.id(i);
+            long recruitId = index < size ? snapshot.idAt(index) : newer.get(index - size)[0];
+            rows.add(new Object[]{userId, recruitId, top.score(i), createdAt});
+        }
+    }
+
+    private void ensureBuffers() {
+        int size = snapshot.getSize();
+        if (overlaps == null || overlaps.length != size) {
+            overlaps = new int[size];
+            touched = new int[256];
+            touchedSize = 0;
+        }
+    }
+}
@@ -37,6 +37,10 @@ public class SoftDeleteCleanupTasklet implements Tasklet {
                 // Ensure table name is safe or quoted if necessary, though internal schema names are usually safe.
                 // Using simple string concatenation for table name as PreparedStatement doesn't support table names.
                 String deleteSql = String.format("DELETE FROM %s WHERE deleted_at IS NOT NULL", table);
+                // 탈퇴 후 연관 데이터 정리(AccountDeletionJob)가 끝나지 않은 유저는 남겨둠
+                if ("users".equalsIgnoreCase(table)) {
+                    deleteSql += " AND id NOT IN (SELECT user_id FROM account_deletion_tasks WHERE completed_at IS NULL)";
+                }
                 int count = jdbcTemplate.update(deleteSql);
                 System.out.println("Deleted " + count + " rows from table: " + table);
             }
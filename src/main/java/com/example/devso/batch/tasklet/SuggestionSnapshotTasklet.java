@@ -0,0 +1,41 @@
+package com.example.devso.batch.tasklet;
+
+import com.example.devso.batch.support.SuggestionFeatureSnapshot;
+import com.example.devso.service.FollowGraph;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팔로우 추천 잡 1단계: 유저 특성 스냅샷 로딩 (+ 팔로우 그래프 준비 확인)
+ */
+@Component
+public class SuggestionSnapshotTasklet implements Tasklet {
+
+    private final SuggestionFeatureSnapshot snapshot;
+    private final FollowGraph followGraph;
+    private final int maxUsersPerFeature;
+
+    public SuggestionSnapshotTasklet(SuggestionFeatureSnapshot snapshot,
+                                     FollowGraph followGraph,
+                                     @Value("${suggestion.max-users-per-feature:2000}") int maxUsersPerFeature) {
+        this.snapshot = snapshot;
+        this.followGraph = followGraph;
+        this.maxUsersPerFeature = maxUsersPerFeature;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        if (!followGraph.isReady()) {
+            followGraph.rebuild();
+        }
+        if (!followGraph.isReady()) {
+            throw new IllegalStateException("팔로우 그래프가 준비되지 않아 추천을 계산할 수 없습니다.");
+        }
+        snapshot.load(maxUsersPerFeature);
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -1,13 +1,27 @@
 package com.example.devso.config;
 
+import com.example.devso.batch.partition.UserIdRangePartitioner;
+import com.example.devso.batch.tasklet.AccountDeletionTasklet;
+import com.example.devso.batch.support.RecruitRecommendationSnapshot;
+import com.example.devso.batch.support.SuggestionFeatureSnapshot;
+import com.example.devso.batch.tasklet.FollowSuggestionTasklet;
+import com.example.devso.batch.tasklet.RecruitAutoCloseTasklet;
+import com.example.devso.batch.tasklet.RecruitRecommendationSnapshotTasklet;
+import com.example.devso.batch.tasklet.RecruitRecommendationTasklet;
 import com.example.devso.batch.tasklet.SoftDeleteCleanupTasklet;
+import com.example.devso.batch.tasklet.SuggestionSnapshotTasklet;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
@@ -26,4 +40,136 @@ public class BatchConfig {
                 .tasklet(tasklet, transactionManager)
                 .build();
     }
+
+    // ===== 팔로우 추천 =====
+
+    @Bean
+    public Job followSuggestionJob(JobRepository jobRepository,
+                                   Step suggestionSnapshotStep,
+                                   Step followSuggestionMasterStep,
+                                   SuggestionFeatureSnapshot snapshot) {
+        return new JobBuilder("followSuggestionJob", jobRepository)
+                .start(suggestionSnapshotStep)
+                .next(followSuggestionMasterStep)
+                .listener(new JobExecutionListener() {
+                    @Override
+                    public void afterJob(JobExecution jobExecution) {
+                        snapshot.clear();
+                    }
+                })
+                .build();
+    }
+
+    @Bean
+    public Step suggestionSnapshotStep(JobRepository jobRepository, PlatformTransactionManager transactionManager, SuggestionSnapshotTasklet tasklet) {
+        return new StepBuilder("suggestionSnapshotStep", jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .build();
+    }
+
+    // users.id 구간별로 워커 스텝을 병렬 실행
+    @Bean
+    public Step followSuggestionMasterStep(JobRepository jobRepository,
+                                           Step followSuggestionWorkerStep,
+                                           JdbcTemplate jdbcTemplate,
+                                           @Value("${suggestion.grid-size:4}") int gridSize) {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("suggestion-");
+        taskExecutor.setConcurrencyLimit(gridSize);
+
+        return new StepBuilder("followSuggestionMasterStep", jobRepository)
+                .partitioner("followSuggestionWorkerStep", new UserIdRangePartitioner(jdbcTemplate))
+                .step(followSuggestionWorkerStep)
+                .gridSize(gridSize)
+                .taskExecutor(taskExecutor)
+                .build();
+    }
+
+    @Bean
+    public Step followSuggestionWorkerStep(JobRepository jobRepository, PlatformTransactionManager transactionManager, FollowSuggestionTasklet tasklet) {
+        return new StepBuilder("followSuggestionWorkerStep", jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .build();
+    }
+
+    // ===== 회원 탈퇴 후 정리 =====
+
+    @Bean
+    public Job accountDeletionJob(JobRepository jobRepository, Step accountDeletionStep) {
+        return new JobBuilder("accountDeletionJob", jobRepository)
+                .start(accountDeletionStep)
+                .build();
+    }
+
+    @Bean
+    public Step accountDeletionStep(JobRepository jobRepository, PlatformTransactionManager transactionManager, AccountDeletionTasklet tasklet) {
+        return new StepBuilder("accountDeletionStep", jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .build();
+    }
+
+    // ===== 모집글 자동 마감 =====
+
+    @Bean
+    public Job recruitAutoCloseJob(JobRepository jobRepository, Step recruitAutoCloseStep) {
+        return new JobBuilder("recruitAutoCloseJob", jobRepository)
+                .start(recruitAutoCloseStep)
+                .build();
+    }
+
+    @Bean
+    public Step recruitAutoCloseStep(JobRepository jobRepository, PlatformTransactionManager transactionManager, RecruitAutoCloseTasklet tasklet) {
+        return new StepBuilder("recruitAutoCloseStep", jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .build();
+    }
+
+    // ===== 모집글 추천 =====
+
+    @Bean
+    public Job recruitRecommendationJob(JobRepository jobRepository,
+                                        Step recruitRecommendationSnapshotStep,
+                                        Step recruitRecommendationMasterStep,
+                                        RecruitRecommendationSnapshot snapshot) {
+        return new JobBuilder("recruitRecommendationJob", jobRepository)
+                .start(recruitRecommendationSnapshotStep)
+                .next(recruitRecommendationMasterStep)
+                .listener(new JobExecutionListener() {
+                    @Override
+                    public void afterJob(JobExecution jobExecution) {
+                        snapshot.clear();
+                    }
+                })
+                .build();
+    }
+
+    @Bean
+    public Step recruitRecommendationSnapshotStep(JobRepository jobRepository, PlatformTransactionManager transactionManager, RecruitRecommendationSnapshotTasklet tasklet) {
+        return new StepBuilder("recruitRecommendationSnapshotStep", jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .build();
+    }
+
+    // users.id 구간별로 워커 스텝을 병렬 실행
+    @Bean
+    public Step recruitRecommendationMasterStep(JobRepository jobRepository,
+                                                Step recruitRecommendationWorkerStep,
+                                                JdbcTemplate jdbcTemplate,
+                                                @Value("${recommendation.grid-size:4}") int gridSize) {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("recommendation-");
+        taskExecutor.setConcurrencyLimit(gridSize);
+
+        return new StepBuilder("recruitRecommendationMasterStep", jobRepository)
+                .partitioner("recruitRecommendationWorkerStep", new UserIdRangePartitioner(jdbcTemplate))
+                .step(recruitRecommendationWorkerStep)
+                .gridSize(gridSize)
+                .taskExecutor(taskExecutor)
+                .build();
+    }
+
+    @Bean
+    public Step recruitRecommendationWorkerStep(JobRepository jobRepository, PlatformTransactionManager transactionManager, RecruitRecommendationTasklet tasklet) {
+        return new StepBuilder("recruitRecommendationWorkerStep", jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .build();
+    }
 }
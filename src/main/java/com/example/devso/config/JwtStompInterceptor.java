@@ -1,7 +1,6 @@
 package com.example.devso.config;
 
-import com.example.devso.security.CustomUserDetailsService;
-import com.example.devso.security.JwtProvider;
+import com.example.devso.security.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -19,8 +18,7 @@ import org.springframework.util.StringUtils;
 @RequiredArgsConstructor
 public class JwtStompInterceptor implements ChannelInterceptor {
 
-    private final JwtProvider jwtProvider;
-    private final CustomUserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -32,9 +30,8 @@ public class JwtStompInterceptor implements ChannelInterceptor {
 
             if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
                 String token = bearerToken.substring(7);
-                if (jwtProvider.validateToken(token)) {
-                    String username = jwtProvider.getUsername(token);
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                UserDetails userDetails = verifiedTokenCache.resolve(token);
+                if (userDetails != null) {
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                     // SecurityContextHolder에 인증 정보를 설정할 수도 있지만, STOMP에서는 accessor에 user를 설정하는 것이 일반적입니다.
                     accessor.setUser(authentication);
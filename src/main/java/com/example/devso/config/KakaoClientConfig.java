@@ -0,0 +1,47 @@
+package com.example.devso.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 카카오 OAuth 호출용 WebClient
+ * - 전용 커넥션 풀 (최대 연결 수 / 풀 대기 시간 / 유휴 연결 정리)
+ * - 연결 타임아웃 + 응답 타임아웃 (요청 전송 후 응답 전체를 받을 때까지, 읽기/쓰기 핸들러는 따로 두지 않음)
+ */
+@Configuration
+public class KakaoClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider kakaoConnectionProvider(
+            @Value("${oauth.kakao.http.max-connections:50}") int maxConnections,
+            @Value("${oauth.kakao.http.pending-acquire-timeout-millis:2000}") long pendingAcquireTimeoutMillis) {
+        return ConnectionProvider.builder("kakao")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .maxLifeTime(Duration.ofMinutes(5))
+                .evictInBackground(Duration.ofSeconds(60))
+                .build();
+    }
+
+    @Bean
+    public WebClient kakaoWebClient(
+            ConnectionProvider kakaoConnectionProvider,
+            @Value("${oauth.kakao.http.connect-timeout-millis:2000}") int connectTimeoutMillis,
+            @Value("${oauth.kakao.http.response-timeout-millis:3000}") long responseTimeoutMillis) {
+        HttpClient httpClient = HttpClient.create(kakaoConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMillis));
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.devso.config;
+
+import com.example.devso.util.RateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RateLimitConfig {
+
+    // 요청 제한용 버킷 저장소 (RateLimitFilter, StompRateLimitInterceptor 공유)
+    // 최대 키 수 = stripes * max-keys-per-stripe (키당 수십 바이트)
+    @Bean
+    public RateLimiter rateLimiter(@Value("${rate-limit.stripes:64}") int stripes,
+                                   @Value("${rate-limit.max-keys-per-stripe:2000}") int maxKeysPerStripe) {
+        return new RateLimiter(stripes, maxKeysPerStripe);
+    }
+}
@@ -3,7 +3,9 @@ package com.example.devso.config;
 
 import com.example.devso.security.JwtAuthenticationEntryPoint;
 import com.example.devso.security.JwtAuthenticationFilter;
+import com.example.devso.security.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -26,6 +28,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -35,7 +38,8 @@ public class SecurityConfig {
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/api/auth/signup", "/api/auth/login", "/api/auth/kakao", "/api/auth/logout", "/api/users/**").permitAll()
+                        .requestMatchers(HttpMethod.DELETE, "/api/users/me").authenticated() // 회원 탈퇴 (아래 /api/users/** 허용보다 먼저)
+                        .requestMatchers("/api/auth/signup", "/api/auth/check-username", "/api/auth/login", "/api/auth/kakao", "/api/auth/logout", "/api/users/**").permitAll()
                         .requestMatchers("/ws-chat/**").permitAll() // WebSocket 연결 경로 허용
                         .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/api-docs/**", "/v3/api-docs/**").permitAll()
                                 .requestMatchers("/error").permitAll()
@@ -44,15 +48,18 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/posts/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/posts/*/view").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/recruits").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/recruits/facets").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/recruits/{id}").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/recruits/{id}/comments").permitAll()
                         .requestMatchers("/api/recruits/enum/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/leaderboard").permitAll()
 //                      .requestMatchers(HttpMethod.GET, "/api/users/**").permitAll()
                         .requestMatchers("/","/index.html", "/static/**", "/assets/**").permitAll()
                         .anyRequest().authenticated()
                 )
                 .headers(headers -> headers.frameOptions(frame -> frame.disable()))
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
                 .exceptionHandling(ex -> ex
                         .authenticationEntryPoint(new JwtAuthenticationEntryPoint()));
 
@@ -73,8 +80,9 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.bcrypt-strength:10}") int strength) {
+        // strength를 올리면 기존 해시는 로그인 성공 시 새 cost로 다시 저장됨
+        return new BCryptPasswordEncoder(strength);
     }
 
 
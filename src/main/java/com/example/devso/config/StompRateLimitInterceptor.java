@@ -0,0 +1,55 @@
+package com.example.devso.config;
+
+import com.example.devso.security.CustomUserDetails;
+import com.example.devso.security.RateLimitPolicy;
+import com.example.devso.util.RateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP SEND 요청 제한 (RateLimitPolicy.CHAT, 유저 ID 기준)
+ * - 초과한 메시지는 저장/브로드캐스트 없이 버림 (세션은 유지)
+ */
+@Slf4j
+@Component
+public class StompRateLimitInterceptor implements ChannelInterceptor {
+
+    private final RateLimiter rateLimiter;
+    private final boolean enabled;
+
+    public StompRateLimitInterceptor(RateLimiter rateLimiter,
+                                     @Value("${rate-limit.enabled:true}") boolean enabled) {
+        this.rateLimiter = rateLimiter;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!enabled) {
+            return message;
+        }
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.SEND.equals(accessor.getCommand())) {
+            return message;
+        }
+        if (!(accessor.getUser() instanceof UsernamePasswordAuthenticationToken authentication)
+                || !(authentication.getPrincipal() instanceof CustomUserDetails user)) {
+            return message;
+        }
+
+        RateLimitPolicy policy = RateLimitPolicy.CHAT;
+        if (rateLimiter.tryAcquire(policy.ordinal() + ":u:" + user.getId(), policy.getIntervalNanos(), policy.getBurst()) == 0) {
+            return message;
+        }
+        log.debug("[RateLimit] CHAT 초과 - userId: {}", user.getId());
+        return null;
+    }
+}
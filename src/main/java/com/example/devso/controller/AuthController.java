@@ -16,6 +16,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
 
 @Tag(name = "Auth", description = "authentication")
 @RestController
@@ -35,6 +38,14 @@ public class AuthController {
                 .body(ApiResponse.success(response));
     }
 
+    @Operation(summary = "아이디 사용 가능 여부 확인")
+    @GetMapping("/check-username")
+    public ResponseEntity<ApiResponse<Map<String, Boolean>>> checkUsername(
+            @RequestParam("username") String username) {
+        boolean available = authService.isUsernameAvailable(username);
+        return ResponseEntity.ok(ApiResponse.success(Map.of("available", available)));
+    }
+
     @Operation(summary = "로그인")
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<TokenResponse>> login(
@@ -53,11 +64,12 @@ public class AuthController {
 
     @Operation(summary = "카카오 로그인")
     @PostMapping("/kakao")
-    public ResponseEntity<ApiResponse<TokenResponse>> kakaoLogin(
+    public Mono<ResponseEntity<ApiResponse<TokenResponse>>> kakaoLogin(
             @Valid @RequestBody KakaoLoginRequest request
     ){
-        TokenResponse response = authService.kakaoLogin(request.getCode());
-        return ResponseEntity.ok(ApiResponse.success(response));
+        // 비동기 처리: 카카오 응답을 기다리는 동안 서블릿 스레드 반환
+        return authService.kakaoLogin(request.getCode())
+                .map(response -> ResponseEntity.ok(ApiResponse.success(response)));
     }
 
     @Operation(summary = "로그아웃")
@@ -0,0 +1,41 @@
+package com.example.devso.controller;
+
+import com.example.devso.dto.response.ApiResponse;
+import com.example.devso.dto.response.LeaderboardEntryResponse;
+import com.example.devso.dto.response.LeaderboardResponse;
+import com.example.devso.security.CustomUserDetails;
+import com.example.devso.service.LeaderboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Leaderboard", description = "이번 주 기여자 순위")
+@RestController
+@RequestMapping("/api/leaderboard")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    @Operation(summary = "이번 주 상위 기여자")
+    @GetMapping
+    public ResponseEntity<ApiResponse<LeaderboardResponse>> getWeeklyTop(
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(leaderboardService.getWeeklyTop(size)));
+    }
+
+    @Operation(summary = "이번 주 내 순위")
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponse<LeaderboardEntryResponse>> getMyStanding(
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(leaderboardService.getMyStanding(userDetails.getId())));
+    }
+}
@@ -15,7 +15,7 @@ import com.example.devso.security.CustomUserDetails;
 import com.example.devso.service.CommentService;
 import com.example.devso.service.PostLikeService;
 import com.example.devso.service.PostService;
-import jakarta.servlet.http.Cookie;
+import com.example.devso.util.ViewerKey;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -27,11 +27,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.List;
-import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/posts")
@@ -100,70 +96,13 @@ public class PostController {
             HttpServletRequest request,
             HttpServletResponse response
     ) {
-        String effectiveViewerKey = userDetails != null
-                ? "u:" + userDetails.getId()
-                : buildAnonymousViewerKey(request, response);
+        String effectiveViewerKey = ViewerKey.resolve(
+                userDetails != null ? userDetails.getId() : null, request, response);
 
         ViewCountResponse viewCountResponse = postService.recordView(id, effectiveViewerKey);
         return ResponseEntity.ok(ApiResponse.success(viewCountResponse));
     }
 
-    private static final String VIEW_COOKIE_NAME = "devso_vid";
-
-    private String buildAnonymousViewerKey(HttpServletRequest request, HttpServletResponse response) {
-        String ip = getClientIp(request);
-        String vid = getOrSetViewerCookie(request, response);
-        return sha256Hex(ip + ":" + vid);
-    }
-
-    private String getOrSetViewerCookie(HttpServletRequest request, HttpServletResponse response) {
-        String existing = null;
-        Cookie[] cookies = request.getCookies();
-        if (cookies != null) {
-            for (Cookie c : cookies) {
-                if (VIEW_COOKIE_NAME.equals(c.getName())) {
-                    existing = c.getValue();
-                    break;
-                }
-            }
-        }
-
-        if (existing != null && !existing.isBlank()) {
-            return existing;
-        }
-
-        String vid = UUID.randomUUID().toString();
-        Cookie cookie = new Cookie(VIEW_COOKIE_NAME, vid);
-        cookie.setPath("/");
-        cookie.setHttpOnly(false); // 프론트에서 생성/확인도 가능하게
-        cookie.setMaxAge(60 * 60 * 24 * 365); // 1년
-        response.addCookie(cookie);
-        return vid;
-    }
-
-    private String getClientIp(HttpServletRequest request) {
-        String xff = request.getHeader("X-Forwarded-For");
-        if (xff != null && !xff.isBlank()) {
-            // 첫 번째 IP가 원본
-            return xff.split(",")[0].trim();
-        }
-        return request.getRemoteAddr();
-    }
-
-    private String sha256Hex(String input) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] dig = md.digest(input.getBytes(StandardCharsets.UTF_8));
-            StringBuilder sb = new StringBuilder(dig.length * 2);
-            for (byte b : dig) {
-                sb.append(String.format("%02x", b));
-            }
-            return sb.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException(e);
-        }
-    }
-
     @PutMapping("/{id:\\d+}")
     public ResponseEntity<ApiResponse<PostResponse>> update(
             @PathVariable Long id,
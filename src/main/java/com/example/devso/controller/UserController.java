@@ -1,7 +1,9 @@
 package com.example.devso.controller;
 
 import com.example.devso.dto.request.ProfileUpdateRequest;
+import com.example.devso.dto.response.FollowPageResponse;
 import com.example.devso.dto.response.FollowResponse;
+import com.example.devso.dto.response.FollowSuggestionResponse;
 import com.example.devso.dto.response.UserResponse;
 import com.example.devso.repository.UserRepository;
 import com.example.devso.security.CustomUserDetails;
@@ -51,14 +53,26 @@ public class UserController {
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<List<UserResponse>>> searchUsers(
             @Parameter(description = "검색어") @RequestParam("q") String query,
+            @Parameter(description = "최대 결과 수") @RequestParam(defaultValue = "10") int size,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        List<UserResponse> response = userService.searchUsers(query, userDetails.getId());
+        List<UserResponse> response = userService.searchUsers(query, userDetails.getId(), size);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
 
 
+    @Operation(summary = "팔로우 추천", description = "함께 아는 사람, 공통 스킬/기술 스택 기준으로 매일 계산된 추천 목록")
+    @GetMapping("/suggestions")
+    public ResponseEntity<ApiResponse<List<FollowSuggestionResponse>>> getSuggestions(
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        Long currentUserId = (userDetails != null) ? userDetails.getId() : null;
+        List<FollowSuggestionResponse> response = followService.getSuggestions(currentUserId, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @Operation(summary = "비밀번호 변경")
     @PutMapping("/password")
     public ResponseEntity<ApiResponse<Void>> changeMyPassword(
@@ -72,6 +86,15 @@ public class UserController {
     }
 
 
+    @Operation(summary = "회원 탈퇴")
+    @DeleteMapping("/me")
+    public ResponseEntity<ApiResponse<Void>> deleteMyAccount(
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        userService.deleteAccount(userDetails.getId());
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(summary = "프로필 조회")
     @GetMapping("/{username}")
     public ResponseEntity<ApiResponse<UserProfileResponse>> getProfile(
@@ -132,24 +155,32 @@ public class UserController {
 
 
 
-    // TODO: 팔로워 목록 조회 API 추가
-    // GET /api/users/{username}/followers
+    // GET /api/users/{username}/followers?cursor=&size=
+    @Operation(summary = "팔로워 목록", description = "응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회합니다.")
     @GetMapping("/{username}/followers")
-    public ResponseEntity<ApiResponse<List<UserResponse>>> getFollowers(
-            @PathVariable String username
+    public ResponseEntity<ApiResponse<FollowPageResponse>> getFollowers(
+            @PathVariable String username,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        List<UserResponse> response = followService.getFollowers(username);
+        Long currentUserId = (userDetails != null) ? userDetails.getId() : null;
+        FollowPageResponse response = followService.getFollowers(username, currentUserId, cursor, size);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
 
-    // TODO: 팔로잉 목록 조회 API 추가
-    // GET /api/users/{username}/following
+    // GET /api/users/{username}/following?cursor=&size=
+    @Operation(summary = "팔로잉 목록", description = "응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회합니다.")
     @GetMapping("/{username}/following")
-    public ResponseEntity<ApiResponse<List<UserResponse>>> getFollowings(
-            @PathVariable String username
+    public ResponseEntity<ApiResponse<FollowPageResponse>> getFollowings(
+            @PathVariable String username,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails
     )  {
-        List<UserResponse> response = followService.getFollowings(username);
+        Long currentUserId = (userDetails != null) ? userDetails.getId() : null;
+        FollowPageResponse response = followService.getFollowings(username, currentUserId, cursor, size);
         return  ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -3,7 +3,6 @@ package com.example.devso.controller.chat;
 import com.example.devso.security.CustomUserDetails;
 import com.example.devso.dto.response.ApiResponse;
 import com.example.devso.dto.response.chat.ChatMessageResponse;
-import com.example.devso.repository.chat.ChatRoomRepository;
 import com.example.devso.service.chat.ChatService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -25,12 +24,11 @@ import java.util.Map;
 public class ChatRestController {
 
     private final ChatService chatService;
-    private final ChatRoomRepository chatRoomRepository;
 
     @Operation(summary = "내 채팅방 목록 조회")
     @GetMapping("/rooms")
     public ResponseEntity<ApiResponse<?>> getMyRooms(@AuthenticationPrincipal CustomUserDetails userDetails) {
-        return ResponseEntity.ok(ApiResponse.success(chatRoomRepository.findAllChatRoomsByUserId(userDetails.getId())));
+        return ResponseEntity.ok(ApiResponse.success(chatService.getMyRooms(userDetails.getId())));
     }
 
     @Operation(summary = "채팅방 생성 또는 입장")
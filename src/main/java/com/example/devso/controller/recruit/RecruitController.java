@@ -3,6 +3,7 @@ package com.example.devso.controller.recruit;
 import com.example.devso.dto.request.recruit.RecruitCommentRequest;
 import com.example.devso.dto.request.recruit.RecruitSearchRequest;
 import com.example.devso.dto.response.recruit.RecruitCommentResponse;
+import com.example.devso.dto.response.recruit.RecruitFacetResponse;
 import com.example.devso.dto.response.recruit.StackResponse;
 import com.example.devso.exception.CustomException;
 import com.example.devso.exception.ErrorCode;
@@ -16,8 +17,11 @@ import com.example.devso.service.FileService;
 import com.example.devso.service.recruit.GeminiService;
 import com.example.devso.service.recruit.RecruitCommentService;
 import com.example.devso.service.recruit.RecruitService;
+import com.example.devso.util.ViewerKey;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -58,10 +62,14 @@ public class RecruitController {
     public ResponseEntity<ApiResponse<RecruitResponse>> findById(
             @PathVariable Long id,
             @RequestParam(value = "isIncrement", defaultValue = "false") boolean isIncrement,
-            @AuthenticationPrincipal CustomUserDetails userDetails
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            HttpServletRequest request,
+            HttpServletResponse servletResponse
     ){
         Long userId = (userDetails != null) ? userDetails.getId() : null;
-        RecruitResponse response = recruitService.findById(id, userId, isIncrement);
+        // 조회자는 서버에서 판별 (같은 조회자는 24시간에 1회만 집계)
+        String viewerKey = isIncrement ? ViewerKey.resolve(userId, request, servletResponse) : null;
+        RecruitResponse response = recruitService.findById(id, userId, viewerKey);
 
         return ResponseEntity.status(HttpStatus.OK)
                 .body(ApiResponse.success(response));
@@ -129,6 +137,23 @@ public class RecruitController {
     }
 
 
+    @Operation(summary = "추천 모집글", description = "프로필 스킬과 모집 기술 스택이 겹치는 모집 중인 글 (미리 계산된 상위 목록)")
+    @GetMapping("/recommended")
+    public ResponseEntity<ApiResponse<List<RecruitResponse>>> getRecommended(
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        Long userId = (userDetails != null) ? userDetails.getId() : null;
+        return ResponseEntity.ok(ApiResponse.success(recruitService.getRecommended(userId, size)));
+    }
+
+    @Operation(summary = "필터값별 모집글 수 (검색어 / 내 글 / 북마크 필터 제외)")
+    @GetMapping("/facets")
+    public ResponseEntity<ApiResponse<RecruitFacetResponse>> getFacets(RecruitSearchRequest searchRequest) {
+        return ResponseEntity.ok(ApiResponse.success(recruitService.getFacets(searchRequest)));
+    }
+
+
     // RecruitComment
     @Operation(summary = "댓글 및 대댓글 생성")
     @PostMapping("/{id}/comments")
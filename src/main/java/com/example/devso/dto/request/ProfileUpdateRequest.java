@@ -4,6 +4,7 @@ import com.example.devso.entity.*;
 import lombok.*;
 
 import java.util.List;
+import java.util.Objects;
 
 @Getter
 @NoArgsConstructor
@@ -28,10 +29,25 @@ public class ProfileUpdateRequest {
 
     // --- 내부 이력 DTO 및 엔티티 변환 로직 ---
 
+    /**
+     * 이력 항목 공통 동작 (UserService에서 기존 목록과 비교해 변경분만 반영)
+     */
+    public interface ChildUpdateDto<E> {
+        Long getId();
+
+        // 내용이 기존 엔티티와 같은지 (id 없이 들어온 요청의 매칭용)
+        boolean isSameAs(E entity);
+
+        void applyTo(E entity);
+
+        E toEntity(User user);
+    }
+
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class CareerUpdateDto {
+    public static class CareerUpdateDto implements ChildUpdateDto<Career> {
+        private Long id; // 기존 항목 수정 시 전달 (없으면 내용으로 매칭, 그래도 없으면 신규)
         private String companyName;
         private String department;
         private String position;
@@ -39,6 +55,22 @@ public class ProfileUpdateRequest {
         private String endDate;
         private String task;
 
+        @Override
+        public boolean isSameAs(Career career) {
+            return Objects.equals(companyName, career.getCompanyName()) &&
+                    Objects.equals(department, career.getDepartment()) &&
+                    Objects.equals(position, career.getPosition()) &&
+                    Objects.equals(startDate, career.getStartDate()) &&
+                    Objects.equals(endDate, career.getEndDate()) &&
+                    Objects.equals(task, career.getTask());
+        }
+
+        @Override
+        public void applyTo(Career career) {
+            career.update(companyName, department, startDate, endDate, position, task);
+        }
+
+        @Override
         public Career toEntity(User user) {
             return Career.builder()
                     .companyName(companyName)
@@ -55,12 +87,27 @@ public class ProfileUpdateRequest {
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class EducationUpdateDto {
+    public static class EducationUpdateDto implements ChildUpdateDto<Education> {
+        private Long id; // 기존 항목 수정 시 전달 (없으면 내용으로 매칭, 그래도 없으면 신규)
         private String schoolName;
         private String major;
         private String startDate;
         private String endDate;
 
+        @Override
+        public boolean isSameAs(Education education) {
+            return Objects.equals(schoolName, education.getSchoolName()) &&
+                    Objects.equals(major, education.getMajor()) &&
+                    Objects.equals(startDate, education.getStartDate()) &&
+                    Objects.equals(endDate, education.getEndDate());
+        }
+
+        @Override
+        public void applyTo(Education education) {
+            education.update(major, schoolName, startDate, endDate);
+        }
+
+        @Override
         public Education toEntity(User user) {
             return Education.builder()
                     .schoolName(schoolName)
@@ -75,11 +122,25 @@ public class ProfileUpdateRequest {
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class CertiUpdateDto {
+    public static class CertiUpdateDto implements ChildUpdateDto<Certi> {
+        private Long id; // 기존 항목 수정 시 전달 (없으면 내용으로 매칭, 그래도 없으면 신규)
         private String certiName;
         private String issuer;
         private String acquisitionDate;
 
+        @Override
+        public boolean isSameAs(Certi certi) {
+            return Objects.equals(certiName, certi.getCertiName()) &&
+                    Objects.equals(issuer, certi.getIssuer()) &&
+                    Objects.equals(acquisitionDate, certi.getAcquisitionDate());
+        }
+
+        @Override
+        public void applyTo(Certi certi) {
+            certi.update(certiName, issuer, acquisitionDate);
+        }
+
+        @Override
         public Certi toEntity(User user) {
             return Certi.builder()
                     .certiName(certiName)
@@ -93,12 +154,27 @@ public class ProfileUpdateRequest {
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class ActivityUpdateDto {
+    public static class ActivityUpdateDto implements ChildUpdateDto<Activity> {
+        private Long id; // 기존 항목 수정 시 전달 (없으면 내용으로 매칭, 그래도 없으면 신규)
         private String category;
         private String projectName;
         private String duration;
         private String content;
 
+        @Override
+        public boolean isSameAs(Activity activity) {
+            return Objects.equals(category, activity.getCategory()) &&
+                    Objects.equals(projectName, activity.getProjectName()) &&
+                    Objects.equals(duration, activity.getDuration()) &&
+                    Objects.equals(content, activity.getContent());
+        }
+
+        @Override
+        public void applyTo(Activity activity) {
+            activity.update(category, projectName, duration, content);
+        }
+
+        @Override
         public Activity toEntity(User user) {
             return Activity.builder()
                     .category(category)
@@ -113,10 +189,23 @@ public class ProfileUpdateRequest {
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class SkillUpdateDto {
+    public static class SkillUpdateDto implements ChildUpdateDto<Skill> {
+        private Long id; // 기존 항목 수정 시 전달 (없으면 내용으로 매칭, 그래도 없으면 신규)
         private String name;
         private String level;
 
+        @Override
+        public boolean isSameAs(Skill skill) {
+            return Objects.equals(name, skill.getName()) &&
+                    Objects.equals(level, skill.getLevel());
+        }
+
+        @Override
+        public void applyTo(Skill skill) {
+            skill.update(name, level);
+        }
+
+        @Override
         public Skill toEntity(User user) {
             return Skill.builder()
                     .name(name)
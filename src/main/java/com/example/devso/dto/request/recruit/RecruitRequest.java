@@ -31,7 +31,7 @@ public class RecruitRequest {
     private Integer totalCount;
 
     @NotNull(message = "마감일을 선택해주세요.")
-//    @FutureOrPresent(message = "마감일은 오늘 이후여야 합니다.")
+    @FutureOrPresent(message = "마감일은 오늘 이후여야 합니다.")
     private LocalDate deadLine;
 
     @NotEmpty(message = "최소 하나 이상의 포지션을 선택해주세요.")
@@ -11,15 +11,19 @@ import java.time.LocalDateTime;
 public class CommentResponse {
     private Long id;
     private String content;
-    private UserResponse author;
+    private UserCard author;
     private Long parentCommentId;
     private LocalDateTime createdAt;
 
     public static CommentResponse from(Comment comment) {
+        return from(comment, UserCard.from(comment.getUser()));
+    }
+
+    public static CommentResponse from(Comment comment, UserCard author) {
         return CommentResponse.builder()
                 .id(comment.getId())
                 .content(comment.getContent())
-                .author(UserResponse.from(comment.getUser()))
+                .author(author)
                 .parentCommentId(comment.getParentComment() != null ? comment.getParentComment().getId() : null)
                 .createdAt(comment.getCreatedAt())
                 .build();
@@ -0,0 +1,24 @@
+package com.example.devso.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class FollowPageResponse {
+
+    private List<FollowUserResponse> users;
+    // 다음 페이지 요청 시 cursor로 전달 (없으면 null)
+    private Long nextCursor;
+    private boolean hasNext;
+
+    public static FollowPageResponse of(List<FollowUserResponse> users, Long nextCursor) {
+        return FollowPageResponse.builder()
+                .users(users)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.devso.dto.response;
+
+import com.example.devso.repository.FollowSuggestionProjection;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class FollowSuggestionResponse {
+
+    private UserResponse user;
+    private int mutualCount;
+
+    public static FollowSuggestionResponse from(FollowSuggestionProjection p) {
+        return FollowSuggestionResponse.builder()
+                .user(UserResponse.builder()
+                        .id(p.getId())
+                        .username(p.getUsername())
+                        .name(p.getName())
+                        .profileImageUrl(p.getProfileImageUrl())
+                        .build())
+                .mutualCount(p.getMutualCount() == null ? 0 : p.getMutualCount())
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.devso.dto.response;
+
+import com.example.devso.repository.FollowUserProjection;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class FollowUserResponse {
+
+    private Long id;
+    private String username;
+    private String name;
+    private String profileImageUrl;
+
+    // 내가 이 사용자를 팔로우 중인지
+    private boolean followedByMe;
+    // 이 사용자가 나를 팔로우 중인지
+    private boolean followsMe;
+
+    public static FollowUserResponse of(FollowUserProjection p, boolean followedByMe, boolean followsMe) {
+        return FollowUserResponse.builder()
+                .id(p.getId())
+                .username(p.getUsername())
+                .name(p.getName())
+                .profileImageUrl(p.getProfileImageUrl())
+                .followedByMe(followedByMe)
+                .followsMe(followsMe)
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.devso.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class LeaderboardEntryResponse {
+
+    private long rank;
+    private long score;
+    private UserResponse user;
+}
@@ -0,0 +1,17 @@
+package com.example.devso.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class LeaderboardResponse {
+
+    // 집계 기간 [windowStart, windowEnd)
+    private LocalDateTime windowStart;
+    private LocalDateTime windowEnd;
+    private List<LeaderboardEntryResponse> entries;
+}
@@ -0,0 +1,19 @@
+package com.example.devso.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// "alice님 외 3명이 좋아합니다" -> { user: alice, othersCount: 3 }
+@Getter
+@Builder
+public class LikedByFollowingResponse {
+    private UserResponse user;
+    private long othersCount;
+
+    public static LikedByFollowingResponse of(UserResponse user, long othersCount) {
+        return LikedByFollowingResponse.builder()
+                .user(user)
+                .othersCount(othersCount)
+                .build();
+    }
+}
@@ -17,12 +17,15 @@ public class PostResponse {
     private String imageUrl;
     private long viewCount;
     private LocalDateTime createdAt;
-    private UserResponse author;
+    private UserCard author;
 
     private boolean liked;
     private long likeCount;
     private long commentCount;
 
+    // 내가 팔로우하는 사람 중 이 글을 좋아한 사람 (없으면 null)
+    private LikedByFollowingResponse likedByFollowing;
+
     public static PostResponse from(Post post) {
         return PostResponse.builder()
                 .id(post.getId())
@@ -30,7 +33,7 @@ public class PostResponse {
                 .content(post.getContent())
                 .imageUrl(post.getImageUrl())
                 .viewCount(post.getViewCount())
-                .author(UserResponse.from(post.getUser()))
+                .author(UserCard.from(post.getUser()))
                 .createdAt(post.getCreatedAt())
                 .liked(false)
                 .likeCount(0)
@@ -38,18 +41,21 @@ public class PostResponse {
                 .build();
     }
 
-    public static PostResponse from(Post post, boolean liked, long likeCount, long commentCount) {
+    // author: UserCardCache에서 채운 작성자 요약 (post.getUser()는 초기화하지 않음)
+    public static PostResponse from(Post post, UserCard author, boolean liked, long likeCount, long commentCount,
+                                    LikedByFollowingResponse likedByFollowing) {
         return PostResponse.builder()
                 .id(post.getId())
                 .title(post.getTitle())
                 .content(post.getContent())
                 .imageUrl(post.getImageUrl())
                 .viewCount(post.getViewCount())
-                .author(UserResponse.from(post.getUser()))
+                .author(author)
                 .createdAt(post.getCreatedAt())
                 .liked(liked)
                 .likeCount(likeCount)
                 .commentCount(commentCount)
+                .likedByFollowing(likedByFollowing)
                 .build();
     }
 }
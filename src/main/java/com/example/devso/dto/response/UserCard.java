@@ -0,0 +1,14 @@
+package com.example.devso.dto.response;
+
+import com.example.devso.entity.User;
+
+/**
+ * 목록 응답(게시물/댓글/모집글/채팅방)에 들어가는 작성자 요약
+ * - 불변이라 UserCardCache에 담아 여러 응답이 같은 인스턴스를 공유
+ */
+public record UserCard(Long id, String username, String name, String profileImageUrl) {
+
+    public static UserCard from(User user) {
+        return new UserCard(user.getId(), user.getUsername(), user.getName(), user.getProfileImageUrl());
+    }
+}
@@ -8,10 +8,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
+// ProfileCache에 공유 저장되므로 setter 없이 불변으로 유지 (isFollowing은 toBuilder로 덧씌움)
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserProfileResponse {
@@ -27,6 +27,8 @@ public class UserProfileResponse {
     private Role role;
     private long followerCount;
     private long followingCount;
+    private long postCount;
+    private long likesReceived;
 
     @JsonProperty("isFollowing")
     private boolean isFollowing;
@@ -38,7 +40,7 @@ public class UserProfileResponse {
     private List<ActivityDto> activities;
     private List<SkillDto> skills; // 1. SkillDto 리스트 필드 추가
 
-    public static UserProfileResponse from(User user, long followerCount, long followingCount, boolean isFollowing) {
+    public static UserProfileResponse from(User user, UserStats stats, boolean isFollowing) {
         return UserProfileResponse.builder()
                 .id(user.getId())
                 .username(user.getUsername())
@@ -49,15 +51,17 @@ public class UserProfileResponse {
                 .profileImageUrl(user.getProfileImageUrl())
                 .portfolio(user.getPortfolio())
                 .role(user.getRole())
-                .careers(user.getCareers().stream().map(CareerDto::from).collect(Collectors.toList()))
-                .educations(user.getEducations().stream().map(EducationDto::from).collect(Collectors.toList()))
-                .certis(user.getCertis().stream().map(CertiDto::from).collect(Collectors.toList()))
-                .activities(user.getActivities().stream().map(ActivityDto::from).collect(Collectors.toList()))
+                .careers(user.getCareers().stream().map(CareerDto::from).toList())
+                .educations(user.getEducations().stream().map(EducationDto::from).toList())
+                .certis(user.getCertis().stream().map(CertiDto::from).toList())
+                .activities(user.getActivities().stream().map(ActivityDto::from).toList())
                 // 2. Skill 엔티티 리스트를 DTO로 변환하여 매핑
                 .skills(user.getSkills() != null ?
-                        user.getSkills().stream().map(SkillDto::from).collect(Collectors.toList()) : null)
-                .followerCount(followerCount)
-                .followingCount(followingCount)
+                        user.getSkills().stream().map(SkillDto::from).toList() : null)
+                .followerCount(stats.getFollowerCount())
+                .followingCount(stats.getFollowingCount())
+                .postCount(stats.getPostCount())
+                .likesReceived(stats.getLikesReceived())
                 .isFollowing(isFollowing)
                 .build();
     }
@@ -68,11 +72,13 @@ public class UserProfileResponse {
     @Getter
     @Builder
     public static class SkillDto {
+        private Long id;
         private String name;
         private String level;
 
         public static SkillDto from(Skill skill) {
             return SkillDto.builder()
+                    .id(skill.getId())
                     .name(skill.getName())
                     .level(skill.getLevel())
                     .build();
@@ -82,6 +88,7 @@ public class UserProfileResponse {
     @Getter
     @Builder
     public static class CareerDto {
+        private Long id;
         private String companyName;
         private String department;
         private String position;
@@ -91,6 +98,7 @@ public class UserProfileResponse {
 
         public static CareerDto from(Career career) {
             return CareerDto.builder()
+                    .id(career.getId())
                     .companyName(career.getCompanyName())
                     .department(career.getDepartment())
                     .position(career.getPosition())
@@ -104,6 +112,7 @@ public class UserProfileResponse {
     @Getter
     @Builder
     public static class EducationDto {
+        private Long id;
         private String schoolName;
         private String major;
         private String startDate;
@@ -111,6 +120,7 @@ public class UserProfileResponse {
 
         public static EducationDto from(Education education) {
             return EducationDto.builder()
+                    .id(education.getId())
                     .schoolName(education.getSchoolName())
                     .major(education.getMajor())
                     .startDate(education.getStartDate())
@@ -122,12 +132,14 @@ public class UserProfileResponse {
     @Getter
     @Builder
     public static class CertiDto {
+        private Long id;
         private String certiName;
         private String issuer;
         private String acquisitionDate;
 
         public static CertiDto from(Certi certi) {
             return CertiDto.builder()
+                    .id(certi.getId())
                     .certiName(certi.getCertiName())
                     .issuer(certi.getIssuer())
                     .acquisitionDate(certi.getAcquisitionDate())
@@ -138,6 +150,7 @@ public class UserProfileResponse {
     @Getter
     @Builder
     public static class ActivityDto {
+        private Long id;
         private String category;
         private String projectName;
         private String duration;
@@ -145,6 +158,7 @@ public class UserProfileResponse {
 
         public static ActivityDto from(Activity activity) {
             return ActivityDto.builder()
+                    .id(activity.getId())
                     .category(activity.getCategory())
                     .projectName(activity.getProjectName())
                     .duration(activity.getDuration())
@@ -0,0 +1,35 @@
+package com.example.devso.dto.response.chat;
+
+import com.example.devso.dto.response.UserCard;
+import com.example.devso.repository.chat.ChatRoomListProjection;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ChatRoomListResponse {
+
+    private Long roomId;
+    private String lastMessage;
+    private LocalDateTime lastMessageTime;
+    private Integer unreadCount;
+    private Long opponentId;
+    private String opponentUsername;
+    private String opponentName;
+    private String opponentProfileImageUrl;
+
+    public static ChatRoomListResponse of(ChatRoomListProjection room, UserCard opponent) {
+        return ChatRoomListResponse.builder()
+                .roomId(room.getRoomId())
+                .lastMessage(room.getLastMessage())
+                .lastMessageTime(room.getLastMessageTime())
+                .unreadCount(room.getUnreadCount())
+                .opponentId(room.getOpponentId())
+                .opponentUsername(opponent.username())
+                .opponentName(opponent.name())
+                .opponentProfileImageUrl(opponent.profileImageUrl())
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.devso.dto.response.recruit;
 
+import com.example.devso.dto.response.UserCard;
 import com.example.devso.entity.recruit.RecruitComment;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
@@ -8,7 +9,9 @@ import lombok.Getter;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Getter
@@ -16,7 +19,7 @@ import java.util.stream.Collectors;
 public class RecruitCommentResponse {
     private Long id;
     private String content;
-    private RecruitUserResponse author;
+    private UserCard author;
     private LocalDateTime createdAt;
 
     @JsonProperty("isOwner")
@@ -31,17 +34,28 @@ public class RecruitCommentResponse {
     // 2. 부모 ID
     private Long parentId;
 
+    // 단건 응답용 (엔티티의 작성자 정보로 채움)
     public static RecruitCommentResponse from(RecruitComment comment, Long currentUserId) {
+        Map<Long, UserCard> authors = new HashMap<>();
+        authors.put(comment.getUser().getId(), UserCard.from(comment.getUser()));
+        if (comment.getChildren() != null) {
+            comment.getChildren().forEach(child -> authors.put(child.getUser().getId(), UserCard.from(child.getUser())));
+        }
+        return from(comment, currentUserId, authors);
+    }
+
+    // authors: 작성자 ID -> 요약 (자식 댓글 작성자 포함)
+    public static RecruitCommentResponse from(RecruitComment comment, Long currentUserId, Map<Long, UserCard> authors) {
         return RecruitCommentResponse.builder()
                 .id(comment.getId())
                 .content(comment.getContent())
-                .author(RecruitUserResponse.from(comment.getUser()))
+                .author(authors.get(comment.getUser().getId()))
                 .createdAt(comment.getCreatedAt())
                 .isOwner(comment.getUser().getId().equals(currentUserId))
                 .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
                 .children(comment.getChildren() != null ?
                         comment.getChildren().stream()
-                                .map(child -> RecruitCommentResponse.from(child, currentUserId))
+                                .map(child -> RecruitCommentResponse.from(child, currentUserId, authors))
                                 .sorted(Comparator.comparing(RecruitCommentResponse::getCreatedAt))
                                 .collect(Collectors.toList())
                         : new ArrayList<>())
@@ -0,0 +1,32 @@
+package com.example.devso.dto.response.recruit;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+public class RecruitFacetResponse {
+
+    // 인덱스 구성 전이면 false (개수는 비어 있음, 잠시 후 다시 조회)
+    private boolean ready;
+
+    // 현재 필터 조합에 맞는 모집글 수
+    private long total;
+    // 필터값(enum value) -> 해당 값으로 바꿨을 때의 모집글 수
+    private Map<Integer, Long> types;
+    private Map<Integer, Long> progressTypes;
+    private Map<Integer, Long> positions;
+    private Map<Integer, Long> stacks;
+
+    public static RecruitFacetResponse notReady() {
+        return RecruitFacetResponse.builder()
+                .ready(false)
+                .types(Map.of())
+                .progressTypes(Map.of())
+                .positions(Map.of())
+                .stacks(Map.of())
+                .build();
+    }
+}
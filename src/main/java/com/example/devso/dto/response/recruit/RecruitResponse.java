@@ -1,6 +1,8 @@
 package com.example.devso.dto.response.recruit;
 
+import com.example.devso.dto.response.UserCard;
 import com.example.devso.entity.recruit.*;
+import com.example.devso.repository.recruit.RecruitCardProjection;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -40,11 +42,16 @@ public class RecruitResponse {
 
     // 기본 from 메서드 (북마크 false)
     public static RecruitResponse from(Recruit recruit){
-        return from(recruit, false);
+        return from(recruit, UserCard.from(recruit.getUser()), false);
     }
 
-    // 북마크 여부 포함 from 메서드
-    public static RecruitResponse from(Recruit recruit, boolean bookmarked){
+    // 작성자 요약 + 북마크 여부 포함 from 메서드 (목록에서는 UserCardCache로 채움)
+    public static RecruitResponse from(Recruit recruit, UserCard author, boolean bookmarked){
+        return from(recruit, author, bookmarked, recruit.getViewCount());
+    }
+
+    // 상세 조회용 (조회수는 아직 DB에 반영되지 않은 집계분까지 더한 값)
+    public static RecruitResponse from(Recruit recruit, UserCard author, boolean bookmarked, long viewCount){
         return RecruitResponse.builder()
                 .id(recruit.getId())
                 .title(recruit.getTitle())
@@ -65,14 +72,46 @@ public class RecruitResponse {
                 .contactInfo(recruit.getContactInfo())
                 .createdAt(recruit.getCreatedAt())
                 .updatedAt(recruit.getUpdatedAt())
-                .username(recruit.getUser().getUsername())
-                .name(recruit.getUser().getName())
-                .profileImageUrl(recruit.getUser().getProfileImageUrl())
+                .username(author.username())
+                .name(author.name())
+                .profileImageUrl(author.profileImageUrl())
                 .deadLine(recruit.getDeadLine())
                 .bookmarked(bookmarked)
-                .viewCount(recruit.getViewCount())
+                .viewCount(viewCount)
                 .commentCount(recruit.getCommentCount())
-                .bookmarkCount(recruit.getRecruitBookMarks().size())
+                .bookmarkCount(recruit.getBookmarkCount())
+                .build();
+    }
+
+    // 목록 카드용 (content는 비워 둠, 포지션/스택은 페이지 단위로 일괄 조회한 값)
+    public static RecruitResponse fromCard(RecruitCardProjection card, List<RecruitPosition> positions,
+                                           List<TechStack> stacks, UserCard author, boolean bookmarked) {
+        return RecruitResponse.builder()
+                .id(card.getId())
+                .title(card.getTitle())
+                .imageUrl(card.getImageUrl())
+                .totalCount(card.getTotalCount())
+                .currentCount(card.getCurrentCount())
+                .type(card.getType())
+                .status(card.getStatus())
+                .positions(positions)
+                .progressType(card.getProgressType())
+                .stacks(stacks.stream()
+                        .map(StackResponse::from)
+                        .collect(Collectors.toList()))
+                .duration(card.getDuration())
+                .contactMethod(card.getContactMethod())
+                .contactInfo(card.getContactInfo())
+                .createdAt(card.getCreatedAt())
+                .updatedAt(card.getUpdatedAt())
+                .username(author.username())
+                .name(author.name())
+                .profileImageUrl(author.profileImageUrl())
+                .deadLine(card.getDeadLine())
+                .bookmarked(bookmarked)
+                .viewCount(card.getViewCount())
+                .commentCount(card.getCommentCount())
+                .bookmarkCount(card.getBookmarkCount())
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,22 @@
+package com.example.devso.entity;
+
+/**
+ * 회원 탈퇴 후 연관 데이터 정리 단계 (순서대로 진행)
+ * - DB에는 ordinal로 저장되므로 중간에 끼워 넣지 말고 DONE 앞에만 추가
+ */
+public enum AccountDeletionStage {
+    POST_LIKES,
+    FOLLOWS,
+    COMMENTS,
+    RECRUIT_COMMENTS,
+    POSTS,
+    RECRUITS,
+    RECRUIT_BOOKMARKS,
+    CHAT_MEMBERSHIPS,
+    FINALIZE,
+    DONE;
+
+    public AccountDeletionStage next() {
+        return this == DONE ? DONE : values()[ordinal() + 1];
+    }
+}
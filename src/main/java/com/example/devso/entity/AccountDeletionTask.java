@@ -0,0 +1,51 @@
+package com.example.devso.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 탈퇴 후 연관 데이터 정리 작업 (AccountDeletionJob이 청크 단위로 진행)
+ * - 청크를 처리한 트랜잭션에서 stage / processedCount를 함께 갱신하므로 중단돼도 이어서 진행
+ * - 각 단계의 쿼리는 "아직 남은 row"만 대상으로 하므로 같은 청크를 다시 실행해도 안전
+ */
+@Entity
+@Table(
+        name = "account_deletion_tasks",
+        indexes = {
+                @Index(name = "idx_account_deletion_completed", columnList = "completed_at, id")
+        }
+)
+@Getter
+@NoArgsConstructor
+public class AccountDeletionTask extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, unique = true)
+    private Long userId;
+
+    @Column(nullable = false, length = 30)
+    private String username;
+
+    @Column(nullable = false)
+    private AccountDeletionStage stage;
+
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public static AccountDeletionTask of(User user) {
+        AccountDeletionTask task = new AccountDeletionTask();
+        task.userId = user.getId();
+        task.username = user.getUsername();
+        task.stage = AccountDeletionStage.values()[0];
+        return task;
+    }
+}
@@ -36,4 +36,12 @@ public class Activity extends BaseEntity {
     public void setUser(User user) {
         this.user = user;
     }
+
+    // 같은 값이면 dirty checking에 걸리지 않으므로 변경된 row만 UPDATE
+    public void update(String category, String projectName, String duration, String content) {
+        this.category = category;
+        this.projectName = projectName;
+        this.duration = duration;
+        this.content = content;
+    }
 }
@@ -38,4 +38,14 @@ public class Career extends BaseEntity {
     public void setUser(User user) {
         this.user = user;
     }
-}
\ No newline at end of file
+
+    // 같은 값이면 dirty checking에 걸리지 않으므로 변경된 row만 UPDATE
+    public void update(String companyName, String department, String startDate, String endDate, String position, String task) {
+        this.companyName = companyName;
+        this.department = department;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.position = position;
+        this.task = task;
+    }
+}
@@ -34,4 +34,11 @@ public class Certi extends BaseEntity {
     public void setUser(User user) {
         this.user = user;
     }
-}
\ No newline at end of file
+
+    // 같은 값이면 dirty checking에 걸리지 않으므로 변경된 row만 UPDATE
+    public void update(String certiName, String issuer, String acquisitionDate) {
+        this.certiName = certiName;
+        this.issuer = issuer;
+        this.acquisitionDate = acquisitionDate;
+    }
+}
@@ -36,4 +36,12 @@ public class Education extends BaseEntity {
     public void setUser(User user) {
         this.user = user;
     }
-}
\ No newline at end of file
+
+    // 같은 값이면 dirty checking에 걸리지 않으므로 변경된 row만 UPDATE
+    public void update(String major, String schoolName, String startDate, String endDate) {
+        this.major = major;
+        this.schoolName = schoolName;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+}
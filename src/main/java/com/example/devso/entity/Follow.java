@@ -7,7 +7,15 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "follows")
+@Table(
+        name = "follows",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_follow_follower_following",
+                        columnNames = {"follower_id", "following_id"}
+                )
+        }
+)
 @NoArgsConstructor
 public class Follow extends BaseEntity{
     @Id
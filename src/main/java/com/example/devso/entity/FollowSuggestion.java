@@ -0,0 +1,43 @@
+package com.example.devso.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팔로우 추천 결과 (FollowSuggestionJob이 매일 새로 계산해서 채움)
+ * - 배치가 JdbcTemplate로 일괄 INSERT 하므로 연관관계 없이 ID만 보관
+ */
+@Entity
+@Table(
+        name = "follow_suggestions",
+        indexes = {
+                @Index(name = "idx_follow_suggestion_user_score", columnList = "user_id, score")
+        }
+)
+@Getter
+@NoArgsConstructor
+public class FollowSuggestion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "suggested_user_id", nullable = false)
+    private Long suggestedUserId;
+
+    @Column(nullable = false)
+    private int score;
+
+    // 함께 아는 사람 수 (내 팔로잉 중 상대를 팔로우하는 사람)
+    @Column(name = "mutual_count", nullable = false)
+    private int mutualCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
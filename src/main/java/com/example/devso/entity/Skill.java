@@ -31,4 +31,10 @@ public class Skill extends BaseEntity {
     public void setUser(User user) {
         this.user = user;
     }
-}
\ No newline at end of file
+
+    // 같은 값이면 dirty checking에 걸리지 않으므로 변경된 row만 UPDATE
+    public void update(String name, String level) {
+        this.name = name;
+        this.level = level;
+    }
+}
@@ -9,15 +9,22 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_email", columnList = "email")
+}, uniqueConstraints = {
+        // 기존 DB(data.sql)의 이름 그대로 (가입 시 중복 아이디 판별에 사용)
+        @UniqueConstraint(name = User.USERNAME_UNIQUE, columnNames = "username")
+})
 @Getter
 @NoArgsConstructor
 public class User extends BaseEntity{
+    public static final String USERNAME_UNIQUE = "UKr43af9ap4edm43mmtq01oddj6";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(unique = true, nullable = false, length = 30)
+    @Column(nullable = false, length = 30)
     private String username;
 
     @Column(nullable = false, length = 60)
@@ -48,6 +55,10 @@ public class User extends BaseEntity{
 
     private String providerId;
 
+    // JWT ver 클레임과 비교, 올리면 이전에 발급된 토큰이 모두 무효
+    @Column(nullable = false)
+    private int tokenVersion;
+
     @Builder
     public User(Long id, String username, String password, String name, Role role, String phone, String bio,
                 String email, String profileImageUrl, String portfolio, AuthProvider provider, String providerId) {
@@ -91,56 +102,6 @@ public class User extends BaseEntity{
     }
 
 
-    public void updateCareers(List<Career> newCareers) {
-        this.careers.clear();
-        if (newCareers != null) {
-            newCareers.forEach(c -> {
-                c.setUser(this);
-                this.careers.add(c);
-            });
-        }
-    }
-
-    public void updateEducations(List<Education> newEducations) {
-        this.educations.clear();
-        if (newEducations != null) {
-            newEducations.forEach(ed -> {
-                ed.setUser(this);
-                this.educations.add(ed);
-            });
-        }
-    }
-
-    public void updateCertis(List<Certi> newCertis) {
-        this.certis.clear();
-        if (newCertis != null) {
-            newCertis.forEach(c -> {
-                c.setUser(this);
-                this.certis.add(c);
-            });
-        }
-    }
-
-    public void updateActivities(List<Activity> newActivities) {
-        this.activities.clear();
-        if (newActivities != null) {
-            newActivities.forEach(a -> {
-                a.setUser(this);
-                this.activities.add(a);
-            });
-        }
-    }
-
-    public void updateSkills(List<Skill> newSkills) {
-        this.skills.clear();
-        if (newSkills != null) {
-            newSkills.forEach(s -> {
-                s.setUser(this);
-                this.skills.add(s);
-            });
-        }
-    }
-
     public void updateOauthProfile(String name, String profileImageUrl) {
         if (name != null) this.name = name;
         if (profileImageUrl != null) this.profileImageUrl = profileImageUrl;
@@ -150,5 +111,9 @@ public class User extends BaseEntity{
         this.password = newEncodedPassword;
     }
 
+    public void bumpTokenVersion() {
+        this.tokenVersion++;
+    }
+
 
 }
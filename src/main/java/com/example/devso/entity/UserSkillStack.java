@@ -0,0 +1,39 @@
+package com.example.devso.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로필 스킬을 TechStack으로 정규화한 값 (유저 + 스택당 1행, 가중치 = 숙련도)
+ * - 새 모집글의 스택으로 추천 대상 유저를 찾을 때 사용 (idx_user_skill_stack_stack)
+ * - 스킬 수정 시 RecruitRecommendationService가 교체, RecruitRecommendationJob이 매일 재구성
+ */
+@Entity
+@Table(
+        name = "user_skill_stacks",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_user_skill_stack", columnNames = {"user_id", "stack"})
+        },
+        indexes = {
+                @Index(name = "idx_user_skill_stack_stack", columnList = "stack, user_id")
+        }
+)
+@Getter
+@NoArgsConstructor
+public class UserSkillStack {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // TechStack ordinal
+    @Column(nullable = false)
+    private int stack;
+
+    @Column(nullable = false)
+    private int weight;
+}
@@ -0,0 +1,39 @@
+package com.example.devso.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저별 집계 카운터 (프로필 조회 시 COUNT 쿼리 대신 사용)
+ * - 갱신은 UserStatsRepository의 원자적 UPDATE로만 수행
+ */
+@Entity
+@Table(name = "user_stats")
+@Getter
+@NoArgsConstructor
+public class UserStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "follower_count", nullable = false)
+    private long followerCount;
+
+    @Column(name = "following_count", nullable = false)
+    private long followingCount;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+
+    @Column(name = "likes_received", nullable = false)
+    private long likesReceived;
+
+    // 아직 row가 없는 유저용 (모든 카운트 0)
+    public static UserStats empty(Long userId) {
+        UserStats stats = new UserStats();
+        stats.userId = userId;
+        return stats;
+    }
+}
@@ -7,7 +7,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(indexes = @Index(name = "idx_room_user", columnList = "chat_room_id, user_id"))
+@Table(indexes = {
+        @Index(name = "idx_room_user", columnList = "chat_room_id, user_id"),
+        // 회원 탈퇴 정리(AccountDeletionTasklet)의 user_id 기준 soft delete용
+        @Index(name = "idx_chat_room_member_user", columnList = "user_id, deleted_at")
+})
 @Getter
 @NoArgsConstructor
 public class ChatRoomMember extends BaseEntity {
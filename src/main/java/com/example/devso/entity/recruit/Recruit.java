@@ -3,6 +3,7 @@ package com.example.devso.entity.recruit;
 import com.example.devso.dto.request.recruit.RecruitRequest;
 import com.example.devso.entity.BaseEntity;
 import com.example.devso.entity.User;
+import com.example.devso.util.EnumMasks;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -16,7 +17,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "recruits")
+@Table(name = "recruits", indexes = {
+        // 목록의 "모집 중" 필터 + 최신순 (마감일 경과분은 RecruitAutoCloseJob이 CLOSED로 바꿈)
+        @Index(name = "idx_recruits_status_created", columnList = "status, created_at")
+})
 @SQLDelete(sql = "UPDATE recruits SET deleted_at = NOW() WHERE id = ?")
 @Where(clause = "deleted_at IS NULL") // 조회 시 삭제된 데이터 제외
 @Getter
@@ -82,15 +86,29 @@ public class Recruit extends BaseEntity {
     @Column(name = "stack")
     private List<TechStack> stacks = new ArrayList<>();
 
+    // 목록 필터용 비트마스크 (비트 위치 = ordinal), 컬렉션 테이블 조인 없이 bitand로 필터링
     @Column(nullable = false)
-    private LocalDate deadLine;
+    private long stackMask;
 
     @Column(nullable = false)
-    private long viewCount = 0;
+    private long positionMask;
 
     @Column(nullable = false)
+    private LocalDate deadLine;
+
+    // 조회수 / 댓글 수 / 북마크 수는 엔티티에서 바꾸지 않고 RecruitRepository의 원자적 UPDATE로만 증감
+    // (조회수는 RecruitViewRecorder가 모아서 반영)
+    // updatable = false: 수정/상태 변경 flush가 읽어 둔 옛 값으로 카운터를 덮어쓰지 않도록
+    @Column(nullable = false, updatable = false)
+    private long viewCount = 0;
+
+    @Column(nullable = false, updatable = false)
     private long commentCount = 0;
 
+    // 북마크 수 (목록에서 북마크 컬렉션을 로딩하지 않도록 비정규화)
+    @Column(nullable = false, updatable = false)
+    private long bookmarkCount = 0;
+
     // 팀원 모집 게시글 삭제 시 댓글들도 삭제(deleted_at에 삭제일 추가)
     @OneToMany(mappedBy = "recruit", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<RecruitComment> recruitComments = new ArrayList<>();
@@ -106,18 +124,21 @@ public class Recruit extends BaseEntity {
         recruit.title = req.getTitle();
         recruit.content = req.getContent();
         recruit.type = req.getType();
-        recruit.positions = req.getPositions();
+        recruit.positions = req.getPositions() != null ? new ArrayList<>(req.getPositions()) : new ArrayList<>();
         recruit.progressType = req.getProgressType();
         recruit.duration = req.getDuration();
         recruit.contactMethod = req.getContactMethod();
         recruit.contactInfo = req.getContactInfo();
-        recruit.stacks = req.getStacks();
+        recruit.stacks = req.getStacks() != null ? new ArrayList<>(req.getStacks()) : new ArrayList<>();
+        recruit.stackMask = EnumMasks.of(recruit.stacks);
+        recruit.positionMask = EnumMasks.of(recruit.positions);
         recruit.totalCount = req.getTotalCount();
         recruit.status = RecruitStatus.OPEN;
         recruit.deadLine = req.getDeadLine();
         recruit.viewCount = 0;
         recruit.currentCount = 0;
         recruit.commentCount = 0; // 초기값 명시
+        recruit.bookmarkCount = 0;
         return recruit;
     }
 
@@ -136,21 +157,29 @@ public class Recruit extends BaseEntity {
     ) {
         this.title = title;
         this.content = content;
-        this.positions = positions;
+        // 컬렉션은 바뀌었을 때만 교체 (새 List를 대입하면 매번 컬렉션 테이블을 지우고 다시 넣음)
+        if (!this.positions.equals(positions)) {
+            this.positions.clear();
+            if (positions != null) {
+                this.positions.addAll(positions);
+            }
+            this.positionMask = EnumMasks.of(this.positions);
+        }
         this.progressType = progressType;
         this.duration = duration;
         this.contactMethod = contactMethod;
         this.contactInfo = contactInfo;
-        this.stacks = stacks;
+        if (!this.stacks.equals(stacks)) {
+            this.stacks.clear();
+            if (stacks != null) {
+                this.stacks.addAll(stacks);
+            }
+            this.stackMask = EnumMasks.of(this.stacks);
+        }
         this.totalCount = totalCount;
         this.deadLine = deadLine;
     }
 
-    // ===== 조회수 증가 =====
-    public void increaseViewCount() {
-        this.viewCount++;
-    }
-
     // ===== 모집 인원 증가 =====
     public void increaseCurrentCount() {
         if (currentCount >= totalCount) {
@@ -159,20 +188,6 @@ public class Recruit extends BaseEntity {
         currentCount++;
     }
 
-    //===== 댓글 수 증가 =====
-    public void increaseCommentCount() {
-        this.commentCount++;
-    }
-
-    // ===== 댓글 수 감소(부모 댓글 삭제 시 하위 자식 댓글들 모두 삭제) =====
-    public void decreaseCommentCountBy(long amount) {
-        if (this.commentCount >= amount) {
-            this.commentCount -= amount;
-        } else {
-            this.commentCount = 0; // 마이너스 방지
-        }
-    }
-
     // ===== 작성자 검증 =====
     public boolean isOwner(Long userId) {
         return this.user.getId().equals(userId);
@@ -187,4 +202,9 @@ public class Recruit extends BaseEntity {
     public void open() {
         this.status = RecruitStatus.OPEN;
     }
+
+    // 마감일이 오늘보다 이전이면 true (RecruitAutoCloseJob과 같은 기준)
+    public boolean isDeadlinePassed(LocalDate today) {
+        return deadLine != null && deadLine.isBefore(today);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.example.devso.entity.recruit;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모집글 추천 결과 (유저별 상위 K개)
+ * - RecruitRecommendationJob이 매일 새로 계산하고, 모집글 / 스킬 변경 시 RecruitRecommendationService가 부분 갱신
+ * - JdbcTemplate로 일괄 INSERT 하므로 연관관계 없이 ID만 보관
+ */
+@Entity
+@Table(
+        name = "recruit_recommendations",
+        indexes = {
+                @Index(name = "idx_recruit_recommendation_user_score", columnList = "user_id, score"),
+                @Index(name = "idx_recruit_recommendation_recruit", columnList = "recruit_id")
+        }
+)
+@Getter
+@NoArgsConstructor
+public class RecruitRecommendation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "recruit_id", nullable = false)
+    private Long recruitId;
+
+    @Column(nullable = false)
+    private int score;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -16,6 +16,7 @@ public enum ErrorCode {
     DUPLICATE_EMAIL(HttpStatus.CONFLICT, "DUPLICATE_EMAIL", "이미 사용 중인 이메일입니다"),
     LOGIN_FAILED(HttpStatus.UNAUTHORIZED, "LOGIN_FAILED", "사용자명 또는 비밀번호가 올바르지 않습니다"),
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "INVALID_TOKEN", "유효하지 않은 토큰입니다"),
+    LOGIN_REQUIRED(HttpStatus.UNAUTHORIZED, "LOGIN_REQUIRED", "로그인이 필요합니다"),
 
     // User
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "USER_NOT_FOUND", "사용자를 찾을 수 없습니다"),
@@ -45,11 +46,13 @@ public enum ErrorCode {
     // Common
     INVALID_INPUT(HttpStatus.BAD_REQUEST, "INVALID_INPUT", "입력값이 올바르지 않습니다"),
     INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_ERROR", "서버 오류가 발생했습니다"),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS", "요청이 많습니다. 잠시 후 다시 시도해주세요"),
 
     //Recruit
     RECRUIT_NOT_FOUND(HttpStatus.NOT_FOUND, "RECRUIT_NOT_FOUND", "팀원 모집글을 찾을 수 없습니다"),
     NOT_RECRUIT_OWNER(HttpStatus.FORBIDDEN, "NOT_RECRUIT_OWNER", "본인의 팀원 모집글만 수정할 수 있습니다"),
     INVALID_ENUM_VALUE(HttpStatus.BAD_REQUEST, "INVALID_ENUM_VALUE", "올바르지 않은 enum 값입니다"),
+    RECRUIT_DEADLINE_PASSED(HttpStatus.BAD_REQUEST, "RECRUIT_DEADLINE_PASSED", "마감일이 지난 모집글은 다시 열 수 없습니다"),
 
     // AI
     AI_ANALYSIS_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AI_001", "AI 분석 중 오류가 발생했습니다"),
@@ -0,0 +1,15 @@
+package com.example.devso.repository;
+
+import com.example.devso.entity.AccountDeletionTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AccountDeletionTaskRepository extends JpaRepository<AccountDeletionTask, Long> {
+
+    @Query(value = "SELECT COUNT(*) FROM account_deletion_tasks WHERE user_id = :userId", nativeQuery = true)
+    long countByUserId(@Param("userId") Long userId);
+
+    @Query(value = "SELECT COUNT(*) FROM account_deletion_tasks WHERE completed_at IS NULL", nativeQuery = true)
+    long countPending();
+}
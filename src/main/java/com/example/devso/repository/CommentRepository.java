@@ -11,17 +11,16 @@ import java.util.List;
 import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    // 특정 게시물의 댓글 목록
+    // 특정 게시물의 댓글 목록 (작성자는 UserCardCache로 채움)
     @Query("""
             SELECT c FROM Comment c
-            JOIN FETCH c.user
             LEFT JOIN FETCH c.parentComment
             WHERE c.post.id = :postId
               AND c.deletedAt IS NULL
               AND c.post.deletedAt IS NULL
             ORDER BY c.createdAt ASC
             """)
-    List<Comment> findByPostIdWithUser(@Param("postId") Long postId);
+    List<Comment> findActiveByPostId(@Param("postId") Long postId);
 
     @Query("""
             SELECT c FROM Comment c
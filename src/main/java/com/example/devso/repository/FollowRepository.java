@@ -2,9 +2,12 @@ package com.example.devso.repository;
 
 import com.example.devso.entity.Follow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,10 +24,76 @@ public interface FollowRepository extends JpaRepository<Follow,Long> {
     @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :userId")
     List<Long> findFollowingIdsByFollowerId(@Param("userId") Long userId);
 
-    @Query("SELECT f FROM Follow f JOIN FETCH f.follower WHERE f.following.id = :userId")
-    List<Follow> findFollowersByFollowingId(@Param("userId") Long userId);
+    // 팔로워 목록 (follows.id 내림차순 keyset, 카드 필드만 조회)
+    @Query(value = """
+            SELECT f.id AS followId,
+                   u.id AS id,
+                   u.username AS username,
+                   u.name AS name,
+                   u.profile_image_url AS profileImageUrl
+            FROM follows f
+            INNER JOIN users u ON u.id = f.follower_id AND u.deleted_at IS NULL
+            WHERE f.following_id = :userId
+              AND (:cursor IS NULL OR f.id < :cursor)
+            ORDER BY f.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<FollowUserProjection> findFollowerPage(
+            @Param("userId") Long userId,
+            @Param("cursor") Long cursor,
+            @Param("limit") int limit
+    );
 
-    @Query("SELECT f FROM Follow f JOIN FETCH f.following WHERE f.follower.id = :userId")
-    List<Follow> findFollowingsByFollowerId(@Param("userId") Long userId);
+    // 팔로잉 목록 (follows.id 내림차순 keyset, 카드 필드만 조회)
+    @Query(value = """
+            SELECT f.id AS followId,
+                   u.id AS id,
+                   u.username AS username,
+                   u.name AS name,
+                   u.profile_image_url AS profileImageUrl
+            FROM follows f
+            INNER JOIN users u ON u.id = f.following_id AND u.deleted_at IS NULL
+            WHERE f.follower_id = :userId
+              AND (:cursor IS NULL OR f.id < :cursor)
+            ORDER BY f.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<FollowUserProjection> findFollowingPage(
+            @Param("userId") Long userId,
+            @Param("cursor") Long cursor,
+            @Param("limit") int limit
+    );
+
+    // viewer와 대상 유저들 사이의 팔로우 관계를 한 번에 조회 -> [follower_id, following_id]
+    @Query(value = """
+            SELECT f.follower_id, f.following_id
+            FROM follows f
+            WHERE (f.follower_id = :viewerId AND f.following_id IN (:userIds))
+               OR (f.following_id = :viewerId AND f.follower_id IN (:userIds))
+            """, nativeQuery = true)
+    List<Object[]> findRelationsWith(
+            @Param("viewerId") Long viewerId,
+            @Param("userIds") Collection<Long> userIds
+    );
+
+    // 유니크 키(follower_id, following_id)에 걸리면 0 반환 -> 이미 팔로우 중
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO follows (follower_id, following_id, created_at, updated_at)
+            VALUES (:followerId, :followingId, :now, :now)
+            """, nativeQuery = true)
+    int insertIgnore(
+            @Param("followerId") Long followerId,
+            @Param("followingId") Long followingId,
+            @Param("now") LocalDateTime now
+    );
+
+    // 삭제된 row 수 반환 (0이면 팔로우 관계 없음)
+    @Modifying
+    @Query("DELETE FROM Follow f WHERE f.follower.id = :followerId AND f.following.id = :followingId")
+    int deleteByFollowerIdAndFollowingId(
+            @Param("followerId") Long followerId,
+            @Param("followingId") Long followingId
+    );
 
 }
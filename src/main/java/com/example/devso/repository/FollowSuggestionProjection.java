@@ -0,0 +1,9 @@
+package com.example.devso.repository;
+
+public interface FollowSuggestionProjection {
+    Long getId();               // AS id
+    String getUsername();       // AS username
+    String getName();           // AS name
+    String getProfileImageUrl(); // AS profileImageUrl
+    Integer getMutualCount();   // AS mutualCount
+}
@@ -0,0 +1,26 @@
+package com.example.devso.repository;
+
+import com.example.devso.entity.FollowSuggestion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface FollowSuggestionRepository extends JpaRepository<FollowSuggestion, Long> {
+
+    // 추천 목록 (점수 내림차순, idx_follow_suggestion_user_score 사용)
+    @Query(value = """
+            SELECT u.id AS id,
+                   u.username AS username,
+                   u.name AS name,
+                   u.profile_image_url AS profileImageUrl,
+                   fs.mutual_count AS mutualCount
+            FROM follow_suggestions fs
+            INNER JOIN users u ON u.id = fs.suggested_user_id AND u.deleted_at IS NULL
+            WHERE fs.user_id = :userId
+            ORDER BY fs.score DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<FollowSuggestionProjection> findSuggestions(@Param("userId") Long userId, @Param("limit") int limit);
+}
@@ -0,0 +1,9 @@
+package com.example.devso.repository;
+
+public interface FollowUserProjection {
+    Long getFollowId();         // AS followId (keyset 커서)
+    Long getId();               // AS id
+    String getUsername();       // AS username
+    String getName();           // AS name
+    String getProfileImageUrl(); // AS profileImageUrl
+}
@@ -0,0 +1,6 @@
+package com.example.devso.repository;
+
+public interface LikeTargetProjection {
+    Long getOwnerId();  // AS ownerId (게시물 작성자)
+    Long getLiked();    // AS liked (이미 좋아요 했으면 1)
+}
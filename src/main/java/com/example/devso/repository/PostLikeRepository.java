@@ -2,7 +2,11 @@ package com.example.devso.repository;
 
 import com.example.devso.entity.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
@@ -13,6 +17,28 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     // 좋아요 여부 확인
     boolean existsByUserIdAndPostId(Long userId, Long postId);
 
+    // 좋아요 대상 확인: 삭제되지 않은 게시물의 작성자 + 내 좋아요 여부를 한 번에 (게시물이 없으면 empty)
+    @Query(value = """
+            SELECT p.user_id AS ownerId,
+                   EXISTS(SELECT 1 FROM post_likes pl WHERE pl.post_id = p.id AND pl.user_id = :userId) AS liked
+            FROM posts p
+            WHERE p.id = :postId AND p.deleted_at IS NULL
+            """, nativeQuery = true)
+    Optional<LikeTargetProjection> findLikeTarget(@Param("postId") Long postId, @Param("userId") Long userId);
+
     // 게시물의 좋아요 수
     long countByPostId(Long postId);
+
+    // 게시물별 최근 좋아요 유저 ID (게시물당 최대 :cap명, 최근 순) -> [postId, userId]
+    @Query(value = """
+            SELECT t.post_id, t.user_id FROM (
+                SELECT pl.post_id, pl.user_id,
+                       ROW_NUMBER() OVER (PARTITION BY pl.post_id ORDER BY pl.id DESC) AS rn
+                FROM post_likes pl
+                WHERE pl.post_id IN (:postIds)
+            ) t
+            WHERE t.rn <= :cap
+            ORDER BY t.post_id, t.rn
+            """, nativeQuery = true)
+    List<Object[]> findRecentLikerIdsByPostIds(@Param("postIds") Collection<Long> postIds, @Param("cap") int cap);
 }
@@ -19,9 +19,9 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT p FROM Post p JOIN FETCH p.user WHERE p.deletedAt IS NULL ORDER BY p.createdAt")
     List<Post> findAllWithUser();
 
-    // 최신(전체) 게시물 조회
-    @Query("SELECT p FROM Post p JOIN FETCH p.user WHERE p.deletedAt IS NULL ORDER BY p.createdAt DESC")
-    Page<Post> findAllWithUser(Pageable pageable);
+    // 최신(전체) 게시물 조회 (작성자는 UserCardCache로 채우므로 user 조인 없음)
+    @Query("SELECT p FROM Post p WHERE p.deletedAt IS NULL ORDER BY p.createdAt DESC")
+    Page<Post> findAllActive(Pageable pageable);
 
     // 최신(전체) 검색: 제목/내용/작성자(username/name)
     @Query(
@@ -60,8 +60,8 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     int incrementViewCount(@Param("id") Long id);
 
     // 특정 사용자의 게시물 조회
-    @Query("SELECT p FROM Post p JOIN FETCH p.user WHERE p.user.id = :userId AND p.deletedAt IS NULL ORDER BY p.createdAt DESC")
-    List<Post> findByUserIdWithUser(@Param("userId") Long userId);
+    @Query("SELECT p FROM Post p WHERE p.user.id = :userId AND p.deletedAt IS NULL ORDER BY p.createdAt DESC")
+    List<Post> findActiveByUserId(@Param("userId") Long userId);
 
     // 사용자별 게시물 수
     long countByUserId(Long userId);
@@ -157,4 +157,7 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     boolean existsByIdAndDeletedAtIsNull(Long id);
 
+    // 게시물 작성자 ID (삭제되지 않은 게시물만)
+    @Query("SELECT p.user.id FROM Post p WHERE p.id = :postId AND p.deletedAt IS NULL")
+    Optional<Long> findOwnerIdById(@Param("postId") Long postId);
 }
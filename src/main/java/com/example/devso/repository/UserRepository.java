@@ -1,11 +1,16 @@
 package com.example.devso.repository;
 
+import com.example.devso.dto.response.UserCard;
 import com.example.devso.entity.AuthProvider;
 import com.example.devso.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +21,25 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query(value = "SELECT * FROM users WHERE username = :username AND deleted_at IS NULL", nativeQuery = true)
     Optional<User> findByUsername(@Param("username") String username);
 
+    // 비밀번호 변경 + 토큰 폐기 (확인한 이후 비밀번호가 바뀌었으면 0건)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :newPassword, u.tokenVersion = u.tokenVersion + 1"
+            + " WHERE u.id = :id AND u.password = :oldPassword")
+    int changePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    int findTokenVersion(@Param("id") Long id);
+
+    // 로그인 시 재해시 저장 (그 사이 비밀번호가 바뀌었으면 0건)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :id AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+
     @Query(value = "SELECT CASE WHEN COUNT(*) > 0 THEN 1 ELSE 0 END FROM users WHERE username = :username AND deleted_at IS NULL", nativeQuery = true)
     long existsByUsername(@Param("username") String username);
 
@@ -23,8 +47,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query(value = "SELECT * FROM users WHERE provider = :provider AND provider_id = :providerId AND deleted_at IS NULL", nativeQuery = true)
     Optional<User> findByProviderAndProviderId(@Param("provider") AuthProvider provider, @Param("providerId") String providerId);
 
+    // 검색 인덱스(UserSearchIndex) 준비 전 대체 조회용 (Pageable로 건수 제한)
     @Query("SELECT u FROM User u WHERE (u.username LIKE %:query% OR u.name LIKE %:query%) AND u.id <> :excludeUserId AND u.deletedAt IS NULL")
-    List<User> searchUsers(@Param("query") String query, @Param("excludeUserId") Long excludeUserId);
+    List<User> searchUsers(@Param("query") String query, @Param("excludeUserId") Long excludeUserId, Pageable pageable);
 
     @Query("SELECT u FROM User u " +
             "LEFT JOIN FETCH u.careers " +
@@ -40,5 +65,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     """, nativeQuery = true
     )
     int existsByEmail(@Param("email") String email, @Param("userId") long userId);
-}
 
+    // 작성자 요약 일괄 조회 (UserCardCache 미스분)
+    @Query("SELECT new com.example.devso.dto.response.UserCard(u.id, u.username, u.name, u.profileImageUrl) FROM User u WHERE u.id IN :ids")
+    List<UserCard> findCardsByIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,47 @@
+package com.example.devso.repository;
+
+import com.example.devso.entity.UserStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * user_stats 카운터 갱신
+ * - row가 없으면 생성, 있으면 원자적으로 증감 (INSERT ... ON DUPLICATE KEY UPDATE)
+ * - 음수가 되지 않도록 GREATEST(0, ...) 처리
+ */
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_stats (user_id, follower_count, following_count, post_count, likes_received)
+            VALUES (:userId, GREATEST(0, :delta), 0, 0, 0)
+            ON DUPLICATE KEY UPDATE follower_count = GREATEST(0, follower_count + :delta)
+            """, nativeQuery = true)
+    int addFollowerCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_stats (user_id, follower_count, following_count, post_count, likes_received)
+            VALUES (:userId, 0, GREATEST(0, :delta), 0, 0)
+            ON DUPLICATE KEY UPDATE following_count = GREATEST(0, following_count + :delta)
+            """, nativeQuery = true)
+    int addFollowingCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_stats (user_id, follower_count, following_count, post_count, likes_received)
+            VALUES (:userId, 0, 0, GREATEST(0, :delta), 0)
+            ON DUPLICATE KEY UPDATE post_count = GREATEST(0, post_count + :delta)
+            """, nativeQuery = true)
+    int addPostCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_stats (user_id, follower_count, following_count, post_count, likes_received)
+            VALUES (:userId, 0, 0, 0, GREATEST(0, :delta))
+            ON DUPLICATE KEY UPDATE likes_received = GREATEST(0, likes_received + :delta)
+            """, nativeQuery = true)
+    int addLikesReceived(@Param("userId") Long userId, @Param("delta") long delta);
+}
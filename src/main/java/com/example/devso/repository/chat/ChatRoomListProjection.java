@@ -7,8 +7,5 @@ public interface ChatRoomListProjection {
     String getLastMessage();  // AS lastMessage
     LocalDateTime getLastMessageTime(); // AS lastMessageTime
     Integer getUnreadCount(); // AS unreadCount
-    Long getOpponentId();     // AS opponentId
-    String getOpponentUsername(); // AS opponentUsername
-    String getOpponentName(); // AS opponentName
-    String getOpponentProfileImageUrl(); // AS opponentProfileImageUrl
+    Long getOpponentId();     // AS opponentId (상대 정보는 UserCardCache로 채움)
 }
\ No newline at end of file
@@ -23,14 +23,10 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
              AND cm.sender_id != :userId
              AND cm.is_read = false
              AND cm.deleted_at is null) AS unreadCount,
-            other_m.user_id AS opponentId,
-            opponent_user.username AS opponentUsername,
-            opponent_user.name AS opponentName,
-            opponent_user.profile_image_url AS opponentProfileImageUrl
+            other_m.user_id AS opponentId
         FROM chat_room cr
         INNER JOIN chat_room_member my_m ON cr.id = my_m.chat_room_id AND my_m.user_id = :userId AND my_m.deleted_at is null
         INNER JOIN chat_room_member other_m ON cr.id = other_m.chat_room_id AND other_m.user_id != :userId
-        INNER JOIN users opponent_user ON other_m.user_id = opponent_user.id
         LEFT JOIN chat_message m ON m.id = (
             SELECT id FROM chat_message
             WHERE chat_room_id = cr.id
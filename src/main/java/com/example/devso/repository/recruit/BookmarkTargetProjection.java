@@ -0,0 +1,6 @@
+package com.example.devso.repository.recruit;
+
+public interface BookmarkTargetProjection {
+    Long getRecruitId();    // AS recruitId
+    Long getBookmarked();   // AS bookmarked (이미 북마크 했으면 1)
+}
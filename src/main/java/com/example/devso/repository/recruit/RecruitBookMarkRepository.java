@@ -3,18 +3,33 @@ package com.example.devso.repository.recruit;
 import com.example.devso.entity.recruit.Recruit;
 import com.example.devso.entity.recruit.RecruitBookMark;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 @Repository
 public interface RecruitBookMarkRepository extends JpaRepository<RecruitBookMark, Long> {
     //북마크 여부
     boolean existsByUserIdAndRecruitId(Long userId, Long RecruitId);
-    //북마크 해제
-    void deleteByUserIdAndRecruitId(Long userId, Long recruitId);
+    //북마크 해제 (엔티티 조회 없이 바로 soft delete)
+    @Modifying
+    @Query("UPDATE RecruitBookMark rb SET rb.deletedAt = CURRENT_TIMESTAMP " +
+            "WHERE rb.user.id = :userId AND rb.recruit.id = :recruitId AND rb.deletedAt IS NULL")
+    int deleteByUserIdAndRecruitId(@Param("userId") Long userId, @Param("recruitId") Long recruitId);
+    //북마크 대상 확인: 삭제되지 않은 모집글 + 내 북마크 여부를 한 번에 (모집글이 없으면 empty)
+    @Query(value = """
+            SELECT r.id AS recruitId,
+                   EXISTS(SELECT 1 FROM recruit_bookmarks rb
+                          WHERE rb.recruit_id = r.id AND rb.user_id = :userId AND rb.deleted_at IS NULL) AS bookmarked
+            FROM recruits r
+            WHERE r.id = :recruitId AND r.deleted_at IS NULL
+            """, nativeQuery = true)
+    Optional<BookmarkTargetProjection> findBookmarkTarget(@Param("recruitId") Long recruitId, @Param("userId") Long userId);
     //북마크 표시한 모집글
     @Query("SELECT rb.recruit.id FROM RecruitBookMark rb " +
             "WHERE rb.user.id = :userId AND rb.recruit.id IN :recruitIds")
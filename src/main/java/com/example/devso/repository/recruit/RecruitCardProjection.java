@@ -0,0 +1,28 @@
+package com.example.devso.repository.recruit;
+
+import com.example.devso.entity.recruit.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 목록 카드용 컬럼만 (content LONGTEXT / 컬렉션 제외)
+public interface RecruitCardProjection {
+    Long getId();
+    String getTitle();
+    String getImageUrl();
+    int getTotalCount();
+    int getCurrentCount();
+    RecruitType getType();
+    RecruitStatus getStatus();
+    RecruitProgressType getProgressType();
+    RecruitDuration getDuration();
+    RecruitContactMethod getContactMethod();
+    String getContactInfo();
+    Long getUserId();           // AS userId (작성자는 UserCardCache로 채움)
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+    LocalDate getDeadLine();
+    long getViewCount();
+    long getCommentCount();
+    long getBookmarkCount();
+}
@@ -11,13 +11,12 @@ import java.util.List;
 @Repository
 public interface RecruitCommentRepository extends JpaRepository<RecruitComment, Long> {
     // 특정 게시물의 댓글 목록
-    // join fetch를 통해 작성자(User)와 부모 댓글 정보를 한 번에 가져옵니다.
+    // 부모 댓글은 join fetch, 작성자(User)는 UserCardCache로 채웁니다.
     @Query("select c from RecruitComment c " +
-            "join fetch c.user " +
             "left join fetch c.parent " +
             "where c.recruit.id = :recruitId " +
             "order by c.createdAt asc")
-    List<RecruitComment> findByRecruitIdWithUser(@Param("recruitId") Long recruitId);
+    List<RecruitComment> findByRecruitIdWithParent(@Param("recruitId") Long recruitId);
 
     // 게시물의 댓글 수
     long countByRecruitId(Long recruitId);
@@ -0,0 +1,8 @@
+package com.example.devso.repository.recruit;
+
+// recruit_positions / recruit_stacks 일괄 조회 행 (kind 0 = 포지션, 1 = 스택, optionValue = enum ordinal)
+public interface RecruitOptionRow {
+    Long getRecruitId();
+    Integer getKind();
+    Integer getOptionValue();
+}
@@ -0,0 +1,25 @@
+package com.example.devso.repository.recruit;
+
+import com.example.devso.entity.recruit.RecruitRecommendation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface RecruitRecommendationRepository extends JpaRepository<RecruitRecommendation, Long> {
+
+    // 추천 모집글 ID (점수 내림차순, idx_recruit_recommendation_user_score 사용)
+    // 계산 이후 마감 / 삭제된 글은 제외
+    @Query(value = """
+            SELECT rr.recruit_id
+            FROM recruit_recommendations rr
+            INNER JOIN recruits r ON r.id = rr.recruit_id AND r.deleted_at IS NULL AND r.status = :openStatus
+            WHERE rr.user_id = :userId
+            ORDER BY rr.score DESC, rr.recruit_id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findRecommendedRecruitIds(@Param("userId") Long userId,
+                                         @Param("openStatus") int openStatus,
+                                         @Param("limit") int limit);
+}
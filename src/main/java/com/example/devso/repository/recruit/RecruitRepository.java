@@ -4,63 +4,95 @@ import com.example.devso.entity.recruit.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RecruitRepository extends JpaRepository<Recruit, Long> {
 
-    // 전체 조회 시 Fetch Join 추가
-    @Query("SELECT DISTINCT r FROM Recruit r JOIN FETCH r.user ORDER BY r.createdAt DESC")
-    List<Recruit> findAllWithUser();
+    // 전체 조회 (최신순 페이지의 ID만, 카드는 findCardsByIds로 채움)
+    @Query(value = "SELECT r.id FROM Recruit r ORDER BY r.createdAt DESC",
+            countQuery = "SELECT COUNT(r) FROM Recruit r")
+    Page<Long> findLatestIds(Pageable pageable);
+
+    // 목록 카드 조회 (content / 컬렉션 없이 카드 컬럼만, 순서는 호출 측에서 맞춤)
+    @Query("""
+        SELECT r.id AS id, r.title AS title, r.imageUrl AS imageUrl,
+               r.totalCount AS totalCount, r.currentCount AS currentCount,
+               r.type AS type, r.status AS status, r.progressType AS progressType,
+               r.duration AS duration, r.contactMethod AS contactMethod, r.contactInfo AS contactInfo,
+               r.user.id AS userId, r.createdAt AS createdAt, r.updatedAt AS updatedAt,
+               r.deadLine AS deadLine, r.viewCount AS viewCount,
+               r.commentCount AS commentCount, r.bookmarkCount AS bookmarkCount
+        FROM Recruit r
+        WHERE r.id IN :ids
+        """)
+    List<RecruitCardProjection> findCardsByIds(@Param("ids") Collection<Long> ids);
+
+    // 카드 페이지의 포지션 / 스택을 한 번에 조회 (컬렉션 테이블에 순서 컬럼이 없으므로 enum ordinal 순으로 고정)
+    @Query(value = """
+        SELECT recruit_id AS recruitId, 0 AS kind, position AS optionValue
+        FROM recruit_positions WHERE recruit_id IN (:ids)
+        UNION ALL
+        SELECT recruit_id AS recruitId, 1 AS kind, stack AS optionValue
+        FROM recruit_stacks WHERE recruit_id IN (:ids)
+        ORDER BY recruitId, kind, optionValue
+        """, nativeQuery = true)
+    List<RecruitOptionRow> findOptionsByRecruitIds(@Param("ids") Collection<Long> ids);
 
     // 모집글 상세 조회
     @Query("SELECT r FROM Recruit r JOIN FETCH r.user WHERE r.id = :id")
     Optional<Recruit> findByIdWithDetails(@Param("id") Long id);
 
-    // 모집글 필터링 조회 (페이징 지원 및 내 글/북마크 필터 통합)
+    // 모집글 필터링 조회 (페이징 지원 및 내 글/북마크 필터 통합), 페이지의 ID만 반환하고 카드는 findCardsByIds로 채움
+    // 작성자는 UserCardCache로 채우므로 users는 작성자 이름 검색 / 작성자 필터의 서브쿼리에서만 사용
+    // 스택/포지션은 비트마스크 컬럼으로 필터링 (0 = 필터 없음, 스택은 하나라도 일치), 조인이 없으므로 DISTINCT 불필요
+    // 모집 중은 status만 비교 (마감일이 지난 글은 RecruitAutoCloseJob이 매일 CLOSED로 바꿈), (status, created_at) 인덱스 사용
     @Query(value = """
-        SELECT DISTINCT r FROM Recruit r
-        JOIN FETCH r.user u
-        LEFT JOIN r.recruitBookMarks rb ON rb.user.id = :currentUserId
+        SELECT r.id FROM Recruit r
         WHERE (:type IS NULL OR r.type = :type)
           AND (
                 :search IS NULL OR :search = ''
                 OR r.title LIKE %:search%
                 OR r.content LIKE %:search%
-                OR r.user.name LIKE %:search%
+                OR r.user.id IN (SELECT su.id FROM User su WHERE su.name LIKE CONCAT('%', :search, '%'))
               )
-          AND (:stacks IS NULL OR EXISTS (SELECT 1 FROM r.stacks s WHERE s IN :stacks))
-          AND (:position IS NULL OR :position MEMBER OF r.positions)
+          AND (:stackMask = 0 OR bitand(r.stackMask, :stackMask) <> 0)
+          AND (:positionMask = 0 OR bitand(r.positionMask, :positionMask) <> 0)
           AND (:progressType IS NULL OR r.progressType = :progressType)
-          AND (:onlyOpen = false OR (r.deadLine >= CURRENT_DATE AND r.status = :openStatus))
-          AND (:onlyMyRecruits = false OR u.username = :currentUsername)
-          AND (:onlyBookmarked = false OR rb.user.id = :currentUserId)
+          AND (:onlyOpen = false OR r.status = :openStatus)
+          AND (:onlyMyRecruits = false OR r.user.id IN (SELECT mu.id FROM User mu WHERE mu.username = :currentUsername))
+          AND (:onlyBookmarked = false OR EXISTS (
+                SELECT 1 FROM RecruitBookMark rb WHERE rb.recruit = r AND rb.user.id = :currentUserId))
         """,
             countQuery = """
-        SELECT COUNT(DISTINCT r) FROM Recruit r
-        LEFT JOIN r.recruitBookMarks rb ON rb.user.id = :currentUserId
+        SELECT COUNT(r) FROM Recruit r
         WHERE (:type IS NULL OR r.type = :type)
           AND (
                 :search IS NULL OR :search = ''
                 OR r.title LIKE %:search%
                 OR r.content LIKE %:search%
-                OR r.user.name LIKE %:search%
+                OR r.user.id IN (SELECT su.id FROM User su WHERE su.name LIKE CONCAT('%', :search, '%'))
               )
+          AND (:stackMask = 0 OR bitand(r.stackMask, :stackMask) <> 0)
+          AND (:positionMask = 0 OR bitand(r.positionMask, :positionMask) <> 0)
           AND (:progressType IS NULL OR r.progressType = :progressType)
-          AND (:onlyOpen = false OR (r.deadLine >= CURRENT_DATE AND r.status = :openStatus))
-          AND (:onlyMyRecruits = false OR r.user.username = :currentUsername)
-          AND (:onlyBookmarked = false OR rb.user.id = :currentUserId)
+          AND (:onlyOpen = false OR r.status = :openStatus)
+          AND (:onlyMyRecruits = false OR r.user.id IN (SELECT mu.id FROM User mu WHERE mu.username = :currentUsername))
+          AND (:onlyBookmarked = false OR EXISTS (
+                SELECT 1 FROM RecruitBookMark rb WHERE rb.recruit = r AND rb.user.id = :currentUserId))
         """)
-    Page<Recruit> findRecruitsByFilters(
+    Page<Long> findRecruitIdsByFilters(
             @Param("type") RecruitType type,
             @Param("search") String search,
-            @Param("stacks") List<TechStack> stacks,
-            @Param("position") RecruitPosition position,
+            @Param("stackMask") long stackMask,
+            @Param("positionMask") long positionMask,
             @Param("progressType") RecruitProgressType progressType,
             @Param("onlyOpen") boolean onlyOpen,
             @Param("onlyBookmarked") boolean onlyBookmarked,
@@ -69,4 +101,16 @@ public interface RecruitRepository extends JpaRepository<Recruit, Long> {
             @Param("currentUsername") String currentUsername,
             @Param("openStatus") RecruitStatus openStatus,
             Pageable pageable);
+
+    // 댓글 수 증감 (읽고 쓰지 않고 DB에서 원자적으로, 음수 방지)
+    @Modifying
+    @Query(value = "UPDATE recruits SET comment_count = GREATEST(0, comment_count + :delta) WHERE id = :recruitId",
+            nativeQuery = true)
+    int addCommentCount(@Param("recruitId") Long recruitId, @Param("delta") long delta);
+
+    // 북마크 수 증감 (읽고 쓰지 않고 DB에서 원자적으로, 음수 방지)
+    @Modifying
+    @Query(value = "UPDATE recruits SET bookmark_count = GREATEST(0, bookmark_count + :delta) WHERE id = :recruitId",
+            nativeQuery = true)
+    int addBookmarkCount(@Param("recruitId") Long recruitId, @Param("delta") long delta);
 }
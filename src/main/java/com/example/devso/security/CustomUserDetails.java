@@ -1,5 +1,6 @@
 package com.example.devso.security;
 
+import com.example.devso.entity.Role;
 import com.example.devso.entity.User;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
@@ -15,16 +16,26 @@ public class CustomUserDetails implements UserDetails {
     private final Long id;
     private final String username;
     private final String password;
+    private final Role role;
 
     public CustomUserDetails(User user) {
         this.id = user.getId();
         this.username = user.getUsername();
         this.password = user.getPassword();
+        this.role = user.getRole() != null ? user.getRole() : Role.USER;
+    }
+
+    // JWT 클레임만으로 만드는 인증 주체 (DB 조회 없음, 비밀번호 없음)
+    public CustomUserDetails(Long id, String username, Role role) {
+        this.id = id;
+        this.username = username;
+        this.password = null;
+        this.role = role != null ? role : Role.USER;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
     }
 
     @Override
@@ -19,15 +19,14 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtProvider jwtProvider;
-    private final CustomUserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
 
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
 
-        if (path.startsWith("/api/auth/signup") || path.startsWith("/api/auth/login") || path.startsWith("/api/auth/kakao")) {
+        if (path.startsWith("/api/auth/signup") || path.startsWith("/api/auth/check-username") || path.startsWith("/api/auth/login") || path.startsWith("/api/auth/kakao")) {
             return true;
         }
         if (path.startsWith("/swagger-ui") || path.startsWith("/v3/api-docs") || path.startsWith("/h2-console") || path.startsWith("/uploads")) {
@@ -48,9 +47,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = resolveToken(request);
 
-            if (StringUtils.hasText(token) && jwtProvider.validateToken(token)) {
-                String username = jwtProvider.getUsername(token);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            // 캐시 히트면 서명 검증 / DB 조회 없이 인증 주체 사용
+            UserDetails userDetails = StringUtils.hasText(token) ? verifiedTokenCache.resolve(token) : null;
+            if (userDetails != null) {
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
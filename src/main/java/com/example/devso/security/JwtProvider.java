@@ -1,5 +1,7 @@
 package com.example.devso.security;
 
+import com.example.devso.entity.Role;
+import com.example.devso.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,46 +14,58 @@ import java.util.Date;
 @Component
 public class JwtProvider {
 
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
     private final SecretKey key;
     private final long expiration;
+    // 파서는 불변/스레드 안전이므로 한 번만 생성해서 재사용
+    private final JwtParser parser;
 
     public JwtProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.expiration}") long expiration) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expiration = expiration;
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
     }
 
-    public String createToken(String username) {
+    // 필터가 DB 조회 없이 인증 주체를 만들 수 있도록 유저 ID / 권한 / 토큰 버전을 함께 담음
+    public String createToken(User user) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
+        Role role = user.getRole() != null ? user.getRole() : Role.USER;
 
         return Jwts.builder()
-                .subject(username)
+                .subject(user.getUsername())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_ROLE, role.name())
+                .claim(CLAIM_TOKEN_VERSION, user.getTokenVersion())
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(key)
                 .compact();
     }
 
+    // 서명/만료 검증과 클레임 추출을 한 번에 (유효하지 않으면 null)
+    public Claims parseClaims(String token) {
+        try {
+            return parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     public String getUsername(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
+        return parser.parseSignedClaims(token)
                 .getPayload()
                 .getSubject();
     }
 
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return parseClaims(token) != null;
     }
 }
@@ -0,0 +1,73 @@
+package com.example.devso.security;
+
+import com.example.devso.util.ClientIp;
+import com.example.devso.util.RateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쓰기 / 조회수 / AI 경로 요청 제한 (JwtAuthenticationFilter 다음에 실행)
+ * - 키: 로그인 유저는 유저 ID, 비로그인은 클라이언트 IP
+ *   (조회수 viewerKey의 쿠키 부분은 클라이언트가 바꿀 수 있으므로 IP만 사용)
+ * - 초과 시 컨트롤러/DB까지 가지 않고 429 + Retry-After
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final byte[] BODY = """
+            {"success":false,"error":{"code":"TOO_MANY_REQUESTS","message":"요청이 많습니다. 잠시 후 다시 시도해주세요"}}"""
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final RateLimiter rateLimiter;
+    private final boolean enabled;
+
+    public RateLimitFilter(RateLimiter rateLimiter,
+                           @Value("${rate-limit.enabled:true}") boolean enabled) {
+        this.rateLimiter = rateLimiter;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || RateLimitPolicy.match(request.getMethod(), request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RateLimitPolicy policy = RateLimitPolicy.match(request.getMethod(), request.getRequestURI());
+        long waitNanos = rateLimiter.tryAcquire(key(policy, request), policy.getIntervalNanos(), policy.getBurst());
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        log.debug("[RateLimit] {} 초과 - {} {}", policy, request.getMethod(), request.getRequestURI());
+        response.setStatus(429);
+        response.setHeader("Retry-After", String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L))));
+        response.setContentType("application/json;charset=UTF-8");
+        response.setContentLength(BODY.length);
+        response.getOutputStream().write(BODY);
+    }
+
+    private static String key(RateLimitPolicy policy, HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user) {
+            return policy.ordinal() + ":u:" + user.getId();
+        }
+        return policy.ordinal() + ":ip:" + ClientIp.resolve(request);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.devso.security;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 경로별 요청 제한 정책 (분당 허용 수 + 연속 허용 수)
+ */
+@Getter
+public enum RateLimitPolicy {
+
+    // 조회수 기록
+    VIEW(30, 10, List.of(
+            route("POST", "/api/posts/\\d+/view"))),
+    // 좋아요 / 북마크 / 팔로우 토글
+    TOGGLE(60, 20, List.of(
+            route("POST", "/api/posts/\\d+/like"),
+            route("DELETE", "/api/posts/\\d+/like"),
+            route("POST", "/api/recruits/\\d+/bookmark"),
+            route("POST", "/api/users/[^/]+/follow"),
+            route("DELETE", "/api/users/[^/]+/follow"))),
+    // 댓글 작성
+    COMMENT(10, 5, List.of(
+            route("POST", "/api/posts/\\d+/comments"),
+            route("POST", "/api/recruits/\\d+/comments"))),
+    // 채팅방 생성 + STOMP 메시지 전송 (StompRateLimitInterceptor)
+    CHAT(60, 20, List.of(
+            route("POST", "/api/chat/rooms/\\d+"))),
+    // Gemini 호출
+    AI(5, 3, List.of(
+            route("POST", "/api/users/[^/]+/ai-bio"),
+            route("GET", "/api/recruits/\\d+/ai-checklist"),
+            route("POST", "/api/recruits/\\d+/ai-checklist/score")));
+
+    private final long intervalNanos;
+    private final int burst;
+    private final List<Route> routes;
+
+    RateLimitPolicy(int perMinute, int burst, List<Route> routes) {
+        this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / perMinute;
+        this.burst = burst;
+        this.routes = routes;
+    }
+
+    // 해당하는 정책이 없으면 null
+    public static RateLimitPolicy match(String method, String path) {
+        if (!path.startsWith("/api/")) {
+            return null;
+        }
+        for (RateLimitPolicy policy : values()) {
+            for (Route route : policy.routes) {
+                if (route.method.equals(method) && route.pattern.matcher(path).matches()) {
+                    return policy;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Route route(String method, String regex) {
+        return new Route(method, Pattern.compile(regex));
+    }
+
+    private record Route(String method, Pattern pattern) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.devso.security;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저별 현재 토큰 버전 (JWT 폐기 확인용)
+ * - 토큰의 ver 클레임이 현재 버전과 다르면 폐기된 토큰
+ * - 처음 본 유저만 users.token_version 한 컬럼 조회, 이후는 메모리에서 확인 (유저당 Long/Integer 한 쌍)
+ * - 비밀번호 변경 / 탈퇴 커밋 이후 갱신
+ */
+@Component
+public class TokenVersionRegistry {
+
+    // 탈퇴했거나 없는 유저
+    private static final int REVOKED = -1;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, Integer> versions = new ConcurrentHashMap<>();
+
+    public TokenVersionRegistry(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        Integer current = versions.get(userId);
+        if (current == null) {
+            current = load(userId);
+        }
+        return current != REVOKED && current == tokenVersion;
+    }
+
+    public void update(Long userId, int tokenVersion) {
+        versions.put(userId, tokenVersion);
+    }
+
+    public void revoke(Long userId) {
+        versions.put(userId, REVOKED);
+    }
+
+    // 조회 도중 update/revoke가 먼저 들어왔으면 그 값을 유지
+    private int load(Long userId) {
+        List<Integer> rows = jdbcTemplate.queryForList(
+                "SELECT token_version FROM users WHERE id = ? AND deleted_at IS NULL", Integer.class, userId);
+        int loaded = rows.isEmpty() || rows.get(0) == null ? REVOKED : rows.get(0);
+        Integer previous = versions.putIfAbsent(userId, loaded);
+        return previous != null ? previous : loaded;
+    }
+}
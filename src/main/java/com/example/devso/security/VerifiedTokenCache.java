@@ -0,0 +1,122 @@
+package com.example.devso.security;
+
+import com.example.devso.entity.Role;
+import com.example.devso.util.LruCache;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검증이 끝난 JWT -> 인증 주체(CustomUserDetails) 캐시
+ * - 키: 토큰 SHA-256 (토큰 원문은 메모리에 남기지 않음)
+ * - 토큰의 exp까지만 유효, 최대 크기를 넘으면 LRU로 제거
+ * - 미스일 때만 서명 검증 1회, 인증 주체는 uid/role/ver 클레임으로 구성 (유저 조회 없음)
+ * - 폐기 확인: 히트/미스 모두 TokenVersionRegistry의 현재 버전과 ver 비교
+ * - uid 클레임이 없는 이전 형식 토큰만 유저를 조회하고 ver=0으로 취급
+ * - 무효화: 비밀번호 변경 / 탈퇴 커밋 이후 해당 유저의 항목 전체
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtProvider jwtProvider;
+    private final CustomUserDetailsService userDetailsService;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final LruCache<String, Entry> entries;
+    private final AtomicLong generation = new AtomicLong();
+
+    public VerifiedTokenCache(JwtProvider jwtProvider,
+                              CustomUserDetailsService userDetailsService,
+                              TokenVersionRegistry tokenVersionRegistry,
+                              @Value("${jwt.verified-cache.size:10000}") int size) {
+        this.jwtProvider = jwtProvider;
+        this.userDetailsService = userDetailsService;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.entries = new LruCache<>(size);
+    }
+
+    // 유효한 토큰이면 인증 주체, 아니면 null
+    public CustomUserDetails resolve(String token) {
+        String key = hash(token);
+        long now = System.currentTimeMillis();
+        Entry cached = entries.get(key);
+        if (cached != null) {
+            if (cached.expiresAt > now) {
+                return tokenVersionRegistry.isCurrent(cached.principal.getId(), cached.tokenVersion) ? cached.principal : null;
+            }
+            entries.remove(key);
+            return null;
+        }
+
+        Claims claims = jwtProvider.parseClaims(token);
+        if (claims == null || claims.getSubject() == null) {
+            return null;
+        }
+
+        // 로딩 도중 무효화가 있었으면 결과만 쓰고 캐시에는 넣지 않음
+        long before = generation.get();
+        CustomUserDetails principal;
+        int tokenVersion;
+        Number userId = claims.get(JwtProvider.CLAIM_USER_ID, Number.class);
+        if (userId != null) {
+            principal = new CustomUserDetails(userId.longValue(), claims.getSubject(), parseRole(claims));
+            Number version = claims.get(JwtProvider.CLAIM_TOKEN_VERSION, Number.class);
+            tokenVersion = version != null ? version.intValue() : 0;
+        } else {
+            try {
+                principal = (CustomUserDetails) userDetailsService.loadUserByUsername(claims.getSubject());
+            } catch (UsernameNotFoundException e) {
+                return null;
+            }
+            tokenVersion = 0;
+        }
+        if (!tokenVersionRegistry.isCurrent(principal.getId(), tokenVersion)) {
+            return null;
+        }
+
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            synchronized (this) {
+                if (generation.get() == before) {
+                    entries.put(key, new Entry(principal, tokenVersion, expiration.getTime()));
+                }
+            }
+        }
+        return principal;
+    }
+
+    private static Role parseRole(Claims claims) {
+        String role = claims.get(JwtProvider.CLAIM_ROLE, String.class);
+        try {
+            return role != null ? Role.valueOf(role) : Role.USER;
+        } catch (IllegalArgumentException e) {
+            return Role.USER;
+        }
+    }
+
+    public void evictUser(Long userId) {
+        synchronized (this) {
+            generation.incrementAndGet();
+            entries.removeIf(entry -> entry.principal.getId().equals(userId));
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(CustomUserDetails principal, int tokenVersion, long expiresAt) {
+    }
+}
@@ -2,7 +2,6 @@ package com.example.devso.service;
 
 import com.example.devso.dto.request.LoginRequest;
 import com.example.devso.dto.request.SignupRequest;
-import com.example.devso.dto.response.KakaoTokenResponse;
 import com.example.devso.dto.response.KakaoUserResponse;
 import com.example.devso.dto.response.TokenResponse;
 import com.example.devso.dto.response.UserResponse;
@@ -12,10 +11,16 @@ import com.example.devso.exception.CustomException;
 import com.example.devso.exception.ErrorCode;
 import com.example.devso.repository.UserRepository;
 import com.example.devso.security.JwtProvider;
+import com.example.devso.util.TransactionHooks;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 
 @Service
@@ -23,38 +28,69 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class AuthService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtProvider jwtProvider;
     private final KakaoOauthService kakaoOauthService;
+    private final UserSearchIndex userSearchIndex;
+    private final IdentityAvailabilityFilter identityAvailabilityFilter;
+    private final UserCardCache userCardCache;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // BCrypt 해시 동안 DB 커넥션을 잡지 않도록 해시 후 저장만 트랜잭션으로
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse signup(SignupRequest request) {
-        // return boolean => long
-        if (userRepository.existsByUsername(request.getUsername()) == 1) {
+        // Bloom filter에 없으면 DB 조회 생략, 있을 수도 있을 때만 인덱스 조회
+        if (identityAvailabilityFilter.isUsernameTaken(request.getUsername())) {
             throw new CustomException(ErrorCode.DUPLICATE_USERNAME);
         }
 
 
+        String encodedPassword = passwordHashingService.encode(request.getPassword());
         User user = User.builder()
                 .username(request.getUsername())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(encodedPassword)
                 .name(request.getName())
                 .phone(request.getPhone())
                 .build();
 
-        User savedUser = userRepository.save(user);
-        return UserResponse.from(savedUser);
+        // 동시 가입 등으로 확인 이후 선점된 경우 유니크 제약으로 걸러짐
+        try {
+            return transactionTemplate.execute(status -> {
+                User savedUser = userRepository.saveAndFlush(user);
+                reindexAfterCommit(savedUser);
+                return UserResponse.from(savedUser);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 아이디 유니크 제약 위반만 중복 아이디로 처리, 나머지는 그대로 던짐
+            if (isUsernameConflict(e)) {
+                throw new CustomException(ErrorCode.DUPLICATE_USERNAME);
+            }
+            throw e;
+        }
     }
 
+    // BCrypt 비교 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenResponse login(LoginRequest request) {
         User user = userRepository.findByUsername(request.getUsername())
                 .orElseThrow(() -> new IllegalArgumentException("아이디을 찾을 수 없습니다."));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        // 소셜 가입 계정은 비밀번호 로그인 불가 (이전에 가입한 카카오 계정은 "kakao_<id>"의 BCrypt 해시가 남아 있음)
+        if (user.getProvider() != AuthProvider.LOCAL) {
+            throw new IllegalArgumentException("소셜 로그인으로 가입한 계정입니다.");
+        }
+
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
 
-        String token = jwtProvider.createToken(user.getUsername());
+        // 설정된 cost보다 낮은 해시는 평문이 있는 지금 다시 해시해서 저장
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(),
+                    passwordHashingService.encode(request.getPassword()));
+        }
+
+        String token = jwtProvider.createToken(user);
 
         return TokenResponse.builder()
                 .accessToken(token)
@@ -62,6 +98,10 @@ public class AuthService {
                 .build();
     }
 
+    public boolean isUsernameAvailable(String username) {
+        return !identityAvailabilityFilter.isUsernameTaken(username);
+    }
+
     public UserResponse getMe(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow();
@@ -70,14 +110,18 @@ public class AuthService {
 
 
     // 카카오 소셜 로그인 구현
-    @Transactional
-    public TokenResponse kakaoLogin(String code) {
+    // 카카오 호출 동안은 요청 스레드 / DB 커넥션을 잡지 않고, 가입/갱신만 별도 스레드에서 트랜잭션으로 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<TokenResponse> kakaoLogin(String code) {
         // 1. Auth code 이용해서 Access Token 발급
-        KakaoTokenResponse tokenResponse = kakaoOauthService.getToken(code);
-
-        // 2. Access Token 사용자 정보 조회
-        KakaoUserResponse userInfo = kakaoOauthService.getUserInfo(tokenResponse.getAccessToken());
+        return kakaoOauthService.getToken(code)
+                // 2. Access Token 사용자 정보 조회
+                .flatMap(tokenResponse -> kakaoOauthService.getUserInfo(tokenResponse.getAccessToken()))
+                .publishOn(Schedulers.boundedElastic())
+                .map(userInfo -> transactionTemplate.execute(status -> loginKakaoUser(userInfo)));
+    }
 
+    private TokenResponse loginKakaoUser(KakaoUserResponse userInfo) {
         // 3. 기존 카카오 사용자 조회 없으면 새로 가입
         User user = userRepository.findByProviderAndProviderId(AuthProvider.KAKAO, String.valueOf(userInfo.getId()))
                 .orElseGet(// 신규 사용자 생성
@@ -86,14 +130,15 @@ public class AuthService {
         // 4. 프로필 정보 업데이트
         user.updateOauthProfile(userInfo.getKakaoAccount().getProfile().getNickname(),
                 userInfo.getKakaoAccount().getProfile().getProfileImageUrl());
+        reindexAfterCommit(user);
 
         // 5. JWT 발급
-        String token = jwtProvider.createToken(user.getUsername());
+        String token = jwtProvider.createToken(user);
         return TokenResponse.builder()
                 .accessToken(token)
                 .tokenType("Bearer")
                 .build();
-      }
+    }
 
 
     // 카카오 신규 사용자 생성
@@ -102,11 +147,35 @@ public class AuthService {
 
         User user = User.builder()
                 .username(username)
-                .password(passwordEncoder.encode(username))
+                .password(PasswordHashingService.OAUTH_PASSWORD)
                 .name(userInfo.getKakaoAccount().getProfile().getNickname())
                 .provider(AuthProvider.KAKAO)
                 .providerId(String.valueOf(userInfo.getId()))
                 .build();
         return userRepository.save(user);
     };
+
+    // MySQL은 "users.<제약 이름>" 형태로 올 수 있어 포함 여부로 비교
+    private static boolean isUsernameConflict(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraintName = violation.getConstraintName();
+                return constraintName != null && constraintName.contains(User.USERNAME_UNIQUE);
+            }
+        }
+        return false;
+    }
+
+    // 가입/카카오 프로필 갱신 후 검색 인덱스 + 아이디/이메일 filter 반영
+    private void reindexAfterCommit(User user) {
+        Long id = user.getId();
+        String username = user.getUsername();
+        String email = user.getEmail();
+        TransactionHooks.afterCommit(() -> identityAvailabilityFilter.add(username, email));
+        // 카카오 로그인마다 닉네임/프로필 이미지가 갱신될 수 있음
+        TransactionHooks.afterCommit(() -> userCardCache.evict(id));
+        String name = user.getName();
+        String profileImageUrl = user.getProfileImageUrl();
+        TransactionHooks.afterCommit(() -> userSearchIndex.upsert(id, username, name, profileImageUrl));
+    }
 }
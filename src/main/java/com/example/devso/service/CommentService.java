@@ -4,6 +4,7 @@ package com.example.devso.service;
 import com.example.devso.dto.request.CommentCreateRequest;
 import com.example.devso.dto.request.CommentUpdateRequest;
 import com.example.devso.dto.response.CommentResponse;
+import com.example.devso.dto.response.UserCard;
 import com.example.devso.entity.Comment;
 import com.example.devso.entity.CommentMention;
 import com.example.devso.entity.Post;
@@ -14,12 +15,14 @@ import com.example.devso.repository.CommentMentionRepository;
 import com.example.devso.repository.CommentRepository;
 import com.example.devso.repository.PostRepository;
 import com.example.devso.repository.UserRepository;
+import com.example.devso.util.TransactionHooks;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @Service
@@ -30,6 +33,8 @@ public class CommentService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final CommentMentionRepository commentMentionRepository;
+    private final ContributorLeaderboard contributorLeaderboard;
+    private final UserCardCache userCardCache;
 
     //update + insert
     private void upsertMentions(Comment comment, List<Long> mentionedUserIds, boolean replaceIfProvided) {
@@ -72,11 +77,12 @@ public class CommentService {
             CommentCreateRequest request
     ) {
 
-        Post post = postRepository.findByIdAndDeletedAtIsNull(postId)
-                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        // 게시물은 존재 여부만 확인하고, 게시물/작성자는 FK만 필요하므로 조회 없이 프록시로 연결
+        if (!postRepository.existsByIdAndDeletedAtIsNull(postId)) {
+            throw new CustomException(ErrorCode.POST_NOT_FOUND);
+        }
+        Post post = postRepository.getReferenceById(postId);
+        User user = userRepository.getReferenceById(userId);
 
         Comment parent = null;
         if (request.getParentCommentId() != null) {
@@ -84,7 +90,7 @@ public class CommentService {
                     .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND));
 
             // 같은 게시물의 댓글만 대댓글로 허용
-            if (parent.getPost() == null || !parent.getPost().getId().equals(postId)) {
+            if (parent.getPost() == null || !postId.equals(parent.getPost().getId())) {
                 throw new CustomException(ErrorCode.COMMENT_NOT_FOUND);
             }
 
@@ -104,7 +110,9 @@ public class CommentService {
         Comment saved = commentRepository.save(comment);
         // 멘션 저장(유저 참조 형태)
         upsertMentions(saved, request.getMentionedUserIds(), false);
-        return CommentResponse.from(saved);
+        TransactionHooks.afterCommit(() -> contributorLeaderboard.onCommentCreated(userId));
+        // 작성자 프록시를 초기화하지 않도록 응답의 작성자 정보는 캐시에서
+        return CommentResponse.from(saved, userCardCache.get(userId));
     }
 
     public List<CommentResponse> findByPostId(Long postId) {
@@ -112,9 +120,11 @@ public class CommentService {
             throw new CustomException(ErrorCode.POST_NOT_FOUND);
         }
 
-        List<Comment> comments = commentRepository.findByPostIdWithUser(postId);
+        List<Comment> comments = commentRepository.findActiveByPostId(postId);
+        Map<Long, UserCard> authors = userCardCache.getAll(
+                comments.stream().map(comment -> comment.getUser().getId()).toList());
         return comments.stream()
-                .map(CommentResponse::from)
+                .map(comment -> CommentResponse.from(comment, authors.get(comment.getUser().getId())))
                 .toList();
     }
 
@@ -137,6 +147,9 @@ public class CommentService {
 
         // 멘션 레코드는 FK로 묶여있지만, 깔끔하게 정리
         commentMentionRepository.deleteByCommentId(commentId);
+
+        LocalDateTime createdAt = comment.getCreatedAt();
+        TransactionHooks.afterCommit(() -> contributorLeaderboard.onCommentDeleted(userId, createdAt));
     }
 
     @Transactional
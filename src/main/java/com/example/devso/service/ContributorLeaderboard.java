@@ -0,0 +1,383 @@
+package com.example.devso.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 이번 주(월요일 0시 KST ~) 기여도 리더보드
+ * - 점수 = 게시물 * 5 + 댓글 * 2 + 받은 좋아요 * 1 (이번 주에 생긴 것만)
+ * - 게시물/댓글/좋아요 쓰기 경로에서 커밋 이후 증분 반영, 주가 바뀌면 초기화
+ * - 순위 목록: 점수 내림차순 skip list, 내 순위: 점수별 인원 Fenwick tree (모두 O(log n))
+ * - 삭제는 원본이 이번 주에 생긴 경우에만 차감 (대댓글 연쇄 삭제 등 일부 차이는 재시작/주 변경 시 재구성으로 맞춰짐)
+ * - 탈퇴한 유저는 탈퇴 커밋 이후 표에서 통째로 제거하고, 재구성 집계에서도 제외 (순위/상위 목록에 남지 않도록)
+ * - 재구성: 집계 쿼리와 새 표 구성은 락 밖에서, 교체만 write lock 안에서
+ *   - 구성 중 들어온 증분은 기존 표에 반영하면서 따로 모아 두고, 교체 시 해당 종류의 집계 쿼리 시작 이후에
+ *     기록된 것만 새 표에 다시 적용 (그 전 것은 쿼리 결과에 이미 포함)
+ *   - 커밋 직후 ~ 커밋 이후 훅 실행 사이에 쿼리가 시작된 경우만 이중 반영될 수 있음
+ */
+@Slf4j
+@Component
+public class ContributorLeaderboard {
+
+    public static final int POST_WEIGHT = 5;
+    public static final int COMMENT_WEIGHT = 2;
+    public static final int LIKE_WEIGHT = 1;
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final Comparator<Standing> ORDER = Comparator.comparingLong(Standing::score).reversed()
+            .thenComparingLong(Standing::userId);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 재구성은 한 번에 하나만
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private Table table = new Table(currentWindowStart());
+    // 재구성 중에 들어온 증분 (write lock 안에서만 접근)
+    private List<PendingDelta> pendingDuringRebuild;
+
+    public ContributorLeaderboard(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record Standing(long userId, long score) {
+    }
+
+    public record Ranked(long userId, long score, long rank) {
+    }
+
+    // 증분 종류 = 집계 쿼리 단위
+    private enum Kind {
+        POST, COMMENT, LIKE,
+        // 탈퇴로 인한 제거 (재구성 쿼리가 탈퇴 유저를 제외하므로 시점과 관계없이 다시 적용)
+        USER
+    }
+
+    // recordedAt: System.nanoTime() 기준 기록 시각
+    private record PendingDelta(long userId, long delta, Kind kind, LocalDateTime occurredAt, long recordedAt) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // 매주 월요일 0시 새 주로 전환
+    @Scheduled(cron = "0 0 0 * * MON", zone = "Asia/Seoul")
+    public void rollover() {
+        rebuild();
+    }
+
+    // 현재 주 기준으로 DB에서 다시 집계 (시작 시 / 주 변경 시 1회)
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            doRebuild();
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private void doRebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Table built = new Table(currentWindowStart());
+        long[] queriedAt = new long[Kind.values().length];
+        try {
+            Timestamp from = Timestamp.valueOf(built.windowStart);
+            Map<Long, Long> loaded = new HashMap<>();
+            RowCallbackHandler accumulate = rs -> loaded.merge(rs.getLong(1), rs.getLong(2), Long::sum);
+            queriedAt[Kind.POST.ordinal()] = System.nanoTime();
+            jdbcTemplate.query("""
+                    SELECT t.user_id, COUNT(*) * ? FROM posts t
+                    INNER JOIN users u ON u.id = t.user_id AND u.deleted_at IS NULL
+                    WHERE t.created_at >= ? AND t.deleted_at IS NULL
+                    GROUP BY t.user_id
+                    """, accumulate, POST_WEIGHT, from);
+            queriedAt[Kind.COMMENT.ordinal()] = System.nanoTime();
+            jdbcTemplate.query("""
+                    SELECT t.user_id, COUNT(*) * ? FROM comments t
+                    INNER JOIN users u ON u.id = t.user_id AND u.deleted_at IS NULL
+                    WHERE t.created_at >= ? AND t.deleted_at IS NULL
+                    GROUP BY t.user_id
+                    """, accumulate, COMMENT_WEIGHT, from);
+            queriedAt[Kind.LIKE.ordinal()] = System.nanoTime();
+            jdbcTemplate.query("""
+                    SELECT p.user_id, COUNT(*) * ? FROM post_likes pl
+                    INNER JOIN posts p ON p.id = pl.post_id
+                    INNER JOIN users u ON u.id = p.user_id AND u.deleted_at IS NULL
+                    WHERE pl.created_at >= ?
+                    GROUP BY p.user_id
+                    """, accumulate, LIKE_WEIGHT, from);
+            loaded.forEach(built::apply);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("[Leaderboard] 구성 실패: {}", e.getMessage());
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (PendingDelta pending : pendingDuringRebuild) {
+                if (pending.kind() == Kind.USER) {
+                    built.remove(pending.userId());
+                } else if (pending.recordedAt() - queriedAt[pending.kind().ordinal()] >= 0
+                        && (pending.occurredAt() == null || !pending.occurredAt().isBefore(built.windowStart))) {
+                    built.apply(pending.userId(), pending.delta());
+                }
+            }
+            pendingDuringRebuild = null;
+            table = built;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[Leaderboard] 구성 완료 - window: {}, users: {}", built.windowStart, built.scores.size());
+    }
+
+    public void onPostCreated(Long userId) {
+        add(userId, POST_WEIGHT, Kind.POST, null);
+    }
+
+    public void onPostDeleted(Long userId, LocalDateTime createdAt) {
+        add(userId, -POST_WEIGHT, Kind.POST, createdAt);
+    }
+
+    public void onCommentCreated(Long userId) {
+        add(userId, COMMENT_WEIGHT, Kind.COMMENT, null);
+    }
+
+    public void onCommentDeleted(Long userId, LocalDateTime createdAt) {
+        add(userId, -COMMENT_WEIGHT, Kind.COMMENT, createdAt);
+    }
+
+    public void onLikeReceived(Long postOwnerId) {
+        add(postOwnerId, LIKE_WEIGHT, Kind.LIKE, null);
+    }
+
+    public void onLikeRemoved(Long postOwnerId, LocalDateTime likedAt) {
+        add(postOwnerId, -LIKE_WEIGHT, Kind.LIKE, likedAt);
+    }
+
+    // 탈퇴 커밋 이후 호출: 이번 주 점수 전체 제거 (게시물/댓글 soft delete는 배치에서 나중에 처리됨)
+    public void onUserDeleted(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(new PendingDelta(userId, 0, Kind.USER, null, System.nanoTime()));
+            }
+            table.remove(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public LocalDateTime getWindowStart() {
+        lock.readLock().lock();
+        try {
+            return table.windowStart;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 상위 limit명 (동점자는 같은 순위)
+    public List<Ranked> top(int limit) {
+        rolloverIfNeeded();
+        lock.readLock().lock();
+        try {
+            Table t = table;
+            List<Ranked> result = new ArrayList<>(Math.min(limit, t.ordered.size()));
+            Iterator<Standing> it = t.ordered.iterator();
+            while (it.hasNext() && result.size() < limit) {
+                Standing s = it.next();
+                result.add(new Ranked(s.userId(), s.score(), t.rankOf(s.score())));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 이번 주 점수가 없으면 null
+    public Ranked standing(Long userId) {
+        rolloverIfNeeded();
+        lock.readLock().lock();
+        try {
+            Table t = table;
+            Long score = t.scores.get(userId);
+            return score == null ? null : new Ranked(userId, score, t.rankOf(score));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // occurredAt: 차감 대상 원본의 생성 시각 (지난 주 것이면 무시), 증가는 null
+    private void add(Long userId, long delta, Kind kind, LocalDateTime occurredAt) {
+        if (userId == null) {
+            return;
+        }
+        rolloverIfNeeded();
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(new PendingDelta(userId, delta, kind, occurredAt, System.nanoTime()));
+            }
+            if (occurredAt != null && occurredAt.isBefore(table.windowStart)) {
+                return;
+            }
+            table.apply(userId, delta);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void rolloverIfNeeded() {
+        boolean stale;
+        lock.readLock().lock();
+        try {
+            stale = !table.windowStart.equals(currentWindowStart());
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (stale) {
+            rebuild();
+        }
+    }
+
+    private static LocalDateTime currentWindowStart() {
+        return LocalDateTime.now(ZONE)
+                .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                .toLocalDate()
+                .atStartOfDay();
+    }
+
+    // 한 주의 점수표 (교체 전에는 재구성 스레드만, 교체 후에는 lock 안에서만 접근)
+    private static final class Table {
+        private final LocalDateTime windowStart;
+        private final Map<Long, Long> scores = new HashMap<>();
+        private final ConcurrentSkipListSet<Standing> ordered = new ConcurrentSkipListSet<>(ORDER);
+        private ScoreCounts counts = new ScoreCounts(1024);
+
+        Table(LocalDateTime windowStart) {
+            this.windowStart = windowStart;
+        }
+
+        void apply(long userId, long delta) {
+            long old = scores.getOrDefault(userId, 0L);
+            long updated = Math.max(0, old + delta);
+            if (old == updated) {
+                return;
+            }
+            if (old > 0) {
+                ordered.remove(new Standing(userId, old));
+                counts.add(old, -1);
+            }
+            if (updated > 0) {
+                ordered.add(new Standing(userId, updated));
+                scores.put(userId, updated);
+                if (counts.fits(updated)) {
+                    counts.add(updated, 1);
+                } else {
+                    counts = ScoreCounts.grownFor(updated, scores);
+                }
+            } else {
+                scores.remove(userId);
+            }
+        }
+
+        void remove(long userId) {
+            Long old = scores.get(userId);
+            if (old != null) {
+                apply(userId, -old);
+            }
+        }
+
+        // 나보다 점수가 높은 인원 + 1
+        long rankOf(long score) {
+            return counts.total() - counts.prefix(score) + 1;
+        }
+    }
+
+    // 점수(1..capacity)별 인원수 Fenwick tree, 범위를 넘으면 두 배로 늘려 다시 구성
+    private static final class ScoreCounts {
+        private final long[] tree;
+        private long total;
+
+        ScoreCounts(int capacity) {
+            this.tree = new long[capacity + 1];
+        }
+
+        boolean fits(long score) {
+            return score < tree.length;
+        }
+
+        // 현재 점수들을 모두 담을 수 있는 크기로 새로 구성
+        static ScoreCounts grownFor(long score, Map<Long, Long> scores) {
+            long capacity = 1024;
+            while (capacity < score) {
+                capacity *= 2;
+            }
+            ScoreCounts grown = new ScoreCounts((int) Math.min(capacity, Integer.MAX_VALUE - 1));
+            for (long s : scores.values()) {
+                grown.add(s, 1);
+            }
+            return grown;
+        }
+
+        void add(long score, long delta) {
+            total += delta;
+            for (int i = (int) score; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        // 점수 score 이하 인원
+        long prefix(long score) {
+            long sum = 0;
+            for (int i = (int) Math.min(score, tree.length - 1); i > 0; i -= i & -i) {
+                sum += tree[i];
+            }
+            return sum;
+        }
+
+        long total() {
+            return total;
+        }
+    }
+}
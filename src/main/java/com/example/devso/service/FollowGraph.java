@@ -0,0 +1,328 @@
+package com.example.devso.service;
+
+import com.example.devso.util.SortedInts;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 인메모리 팔로우 그래프
+ * - users.id가 AUTO_INCREMENT(조밀한 정수)라는 점을 이용해 userId를 배열 인덱스로 직접 사용
+ * - 유저별 팔로잉(out) / 팔로워(in) 목록을 여유 공간 없는 정렬된 int[]로 보관 (박싱 없음)
+ * - 목록 배열은 변경 시 새로 만들어 교체(copy-on-write)하므로 반환된 배열은 읽기 전용으로만 사용
+ * - 시작 시 DB에서 전체 재구성, 이후 FollowService 커밋 시점에 증분 반영
+ * - 재구성이 끝나기 전(isReady() == false)에는 호출하는 쪽이 DB로 조회해야 함
+ */
+@Slf4j
+@Component
+public class FollowGraph {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int[][] out = new int[0][];
+    private int[][] in = new int[0][];
+    private long edgeCount;
+
+    private volatile boolean ready;
+    // 재구성 중 들어온 증분 변경 (재구성 결과에 다시 적용)
+    private List<long[]> pendingDuringRebuild;
+
+    public FollowGraph(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ===== 조회 =====
+
+    public boolean follows(long followerId, long followingId) {
+        lock.readLock().lock();
+        try {
+            return Arrays.binarySearch(row(out, followerId), toIndex(followingId)) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 내가 팔로우하는 유저 ID (오름차순)
+    public long[] followingIds(long userId) {
+        lock.readLock().lock();
+        try {
+            return widen(row(out, userId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 나를 팔로우하는 유저 ID (오름차순)
+    public long[] followerIds(long userId) {
+        lock.readLock().lock();
+        try {
+            return widen(row(in, userId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 맞팔로우 유저 ID (오름차순)
+    public long[] mutuals(long userId) {
+        int[] following;
+        int[] followers;
+        lock.readLock().lock();
+        try {
+            following = row(out, userId);
+            followers = row(in, userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return widen(SortedInts.intersect(following, followers));
+    }
+
+    public int followingCount(long userId) {
+        lock.readLock().lock();
+        try {
+            return row(out, userId).length;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int followerCount(long userId) {
+        lock.readLock().lock();
+        try {
+            return row(in, userId).length;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 대략적인 힙 사용량 (byte)
+     * - 배열 헤더 16byte, 참조 4byte(compressed oops) 기준
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return estimatedBytes(out) + estimatedBytes(in);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long edgeCount() {
+        lock.readLock().lock();
+        try {
+            return edgeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== 증분 반영 (커밋 이후 호출) =====
+
+    public void onFollow(long followerId, long followingId) {
+        lock.writeLock().lock();
+        try {
+            applyFollow(followerId, followingId);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(new long[]{followerId, followingId, 1});
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void onUnfollow(long followerId, long followingId) {
+        lock.writeLock().lock();
+        try {
+            applyUnfollow(followerId, followingId);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(new long[]{followerId, followingId, -1});
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ===== 전체 재구성 =====
+
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        int[][] newOut;
+        int[][] newIn;
+        long[] edges = new long[1];
+        try {
+            int maxUserId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM users", Integer.class);
+            newOut = load("SELECT follower_id, following_id FROM follows ORDER BY follower_id, following_id", maxUserId, edges);
+            newIn = load("SELECT following_id, follower_id FROM follows ORDER BY following_id, follower_id", maxUserId, null);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("[FollowGraph] 재구성 실패: {}", e.getMessage());
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            out = newOut;
+            in = newIn;
+            edgeCount = edges[0];
+            // 재구성 쿼리 이후 커밋된 변경을 다시 적용 (추가/삭제 모두 멱등)
+            for (long[] change : pendingDuringRebuild) {
+                if (change[2] > 0) {
+                    applyFollow(change[0], change[1]);
+                } else {
+                    applyUnfollow(change[0], change[1]);
+                }
+            }
+            pendingDuringRebuild = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("[FollowGraph] 재구성 완료 - edges: {}, ~{} KB", edgeCount(), estimatedBytes() / 1024);
+    }
+
+    // (key, value) 정렬 스트림을 key별 int[]로 묶음
+    private int[][] load(String sql, int maxUserId, long[] edgeCounter) {
+        RowGrouper grouper = new RowGrouper(maxUserId);
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> grouper.add(toIndex(rs.getLong(1)), toIndex(rs.getLong(2))));
+        grouper.finish();
+        if (edgeCounter != null) {
+            edgeCounter[0] = grouper.rows;
+        }
+        return grouper.table;
+    }
+
+    private static final class RowGrouper {
+        private int[][] table;
+        private int[] buf = new int[16];
+        private int size;
+        private int currentKey = -1;
+        private long rows;
+
+        RowGrouper(int maxUserId) {
+            this.table = new int[maxUserId + 1][];
+        }
+
+        void add(int key, int value) {
+            if (key != currentKey) {
+                finish();
+                currentKey = key;
+            }
+            if (size == buf.length) {
+                buf = Arrays.copyOf(buf, size * 2);
+            }
+            // ORDER BY로 정렬되어 들어오므로 중복만 건너뜀
+            if (size == 0 || buf[size - 1] != value) {
+                buf[size++] = value;
+                rows++;
+            }
+        }
+
+        void finish() {
+            if (currentKey >= 0 && size > 0) {
+                table = ensureCapacity(table, currentKey);
+                table[currentKey] = Arrays.copyOf(buf, size);
+            }
+            size = 0;
+        }
+    }
+
+    // ===== 내부 연산 (write lock 보유 상태에서 호출) =====
+
+    private void applyFollow(long followerId, long followingId) {
+        int a = toIndex(followerId);
+        int b = toIndex(followingId);
+        out = ensureCapacity(out, a);
+        in = ensureCapacity(in, b);
+        int[] newOut = SortedInts.insert(out[a], b);
+        if (newOut != out[a]) {
+            out[a] = newOut;
+            in[b] = SortedInts.insert(in[b], a);
+            edgeCount++;
+        }
+    }
+
+    private void applyUnfollow(long followerId, long followingId) {
+        int a = toIndex(followerId);
+        int b = toIndex(followingId);
+        if (a >= out.length || b >= in.length || out[a] == null) {
+            return;
+        }
+        int[] newOut = SortedInts.remove(out[a], b);
+        if (newOut != out[a]) {
+            out[a] = newOut;
+            in[b] = SortedInts.remove(in[b], a);
+            edgeCount--;
+        }
+    }
+
+    private static int[][] ensureCapacity(int[][] table, int index) {
+        if (index < table.length) {
+            return table;
+        }
+        return Arrays.copyOf(table, Math.max(index + 1, table.length + (table.length >> 1) + 16));
+    }
+
+    private static int[] row(int[][] table, long userId) {
+        if (userId < 0 || userId >= table.length) {
+            return SortedInts.EMPTY;
+        }
+        int[] r = table[(int) userId];
+        return r == null ? SortedInts.EMPTY : r;
+    }
+
+    private static long[] widen(int[] ids) {
+        long[] result = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            result[i] = ids[i];
+        }
+        return result;
+    }
+
+    private static int toIndex(long userId) {
+        if (userId < 0 || userId > Integer.MAX_VALUE - 16) {
+            throw new IllegalArgumentException("userId out of range: " + userId);
+        }
+        return (int) userId;
+    }
+
+    private static long estimatedBytes(int[][] table) {
+        long bytes = 16 + 4L * table.length;
+        for (int[] r : table) {
+            if (r != null && r.length > 0) {
+                bytes += 16 + 4L * r.length;
+            }
+        }
+        return bytes;
+    }
+}
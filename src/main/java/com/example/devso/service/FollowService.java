@@ -1,18 +1,26 @@
 package com.example.devso.service;
 
+import com.example.devso.dto.response.FollowPageResponse;
 import com.example.devso.dto.response.FollowResponse;
-import com.example.devso.dto.response.UserResponse;
-import com.example.devso.entity.Follow;
+import com.example.devso.dto.response.FollowSuggestionResponse;
+import com.example.devso.dto.response.FollowUserResponse;
 import com.example.devso.entity.User;
+import com.example.devso.entity.UserStats;
 import com.example.devso.exception.CustomException;
 import com.example.devso.exception.ErrorCode;
 import com.example.devso.repository.FollowRepository;
+import com.example.devso.repository.FollowSuggestionRepository;
+import com.example.devso.repository.FollowUserProjection;
 import com.example.devso.repository.UserRepository;
+import com.example.devso.util.TransactionHooks;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -20,15 +28,16 @@ import java.util.List;
 public class FollowService {
     private final FollowRepository followRepository;
     private final UserRepository userRepository;
+    private final UserStatsService userStatsService;
+    private final FollowGraph followGraph;
+    private final FollowSuggestionRepository followSuggestionRepository;
 
     /**
-     * 팔로우/팔로잉 카운트를 조회하여 FollowResponse로 반환합니다.
+     * 팔로우/팔로잉 카운트를 user_stats에서 조회하여 FollowResponse로 반환합니다.
      */
     private FollowResponse getFollowCounts(Long userId, boolean isFollowing){
-        long followerCount = followRepository.countByFollowingId(userId);
-        long followingCount = followRepository.countByFollowerId(userId);
-
-        return FollowResponse.of(isFollowing, followerCount, followingCount);
+        UserStats stats = userStatsService.get(userId);
+        return FollowResponse.of(isFollowing, stats.getFollowerCount(), stats.getFollowingCount());
     }
 
     /**
@@ -39,26 +48,24 @@ public class FollowService {
         User following = userRepository.findByUsername(username)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        User follower = userRepository.findById(followerId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        if (!userRepository.existsById(followerId)) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
 
         // 자기 자신 팔로우 방지
-        if (following.getId().equals(follower.getId())) {
+        if (following.getId().equals(followerId)) {
             throw new CustomException(ErrorCode.CANNOT_FOLLOW_SELF);
         }
 
-        // 이미 팔로우 중인지 체크
-        if (followRepository.existsByFollowerIdAndFollowingId(follower.getId(), following.getId())) {
+        // 유니크 키로 중복 팔로우 차단 (exists 확인 후 insert 하는 경쟁 상태 없음)
+        int inserted = followRepository.insertIgnore(followerId, following.getId(), LocalDateTime.now());
+        if (inserted == 0) {
             throw new CustomException(ErrorCode.ALREADY_FOLLOWING);
         }
 
-        Follow follow = Follow.builder()
-                .follower(follower)
-                .following(following)
-                .build();
-
-        followRepository.save(follow);
-        followRepository.flush(); // 즉시 DB 반영하여 카운트 정합성 확보
+        userStatsService.onFollowChanged(followerId, following.getId(), 1);
+        Long followingId = following.getId();
+        TransactionHooks.afterCommit(() -> followGraph.onFollow(followerId, followingId));
 
         return getFollowCounts(following.getId(), true);
     }
@@ -72,38 +79,92 @@ public class FollowService {
         User following = userRepository.findByUsername(username)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        // 팔로우 관계 존재 확인
-        Follow follow = followRepository
-                .findByFollowerIdAndFollowingId(followerId, following.getId())
-                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOLLOWING));
+        // 팔로우 관계 삭제 (삭제된 row가 없으면 팔로우하지 않은 상태)
+        int deleted = followRepository.deleteByFollowerIdAndFollowingId(followerId, following.getId());
+        if (deleted == 0) {
+            throw new CustomException(ErrorCode.NOT_FOLLOWING);
+        }
 
-        followRepository.delete(follow);
-        followRepository.flush(); // 삭제 내용을 즉시 반영해야 getFollowCounts에서 정확한 숫자가 나옵니다.
+        userStatsService.onFollowChanged(followerId, following.getId(), -1);
+        Long followingId = following.getId();
+        TransactionHooks.afterCommit(() -> followGraph.onUnfollow(followerId, followingId));
 
         return getFollowCounts(following.getId(), false);
     }
 
     /**
-     * 특정 사용자의 팔로워 목록을 조회합니다.
+     * 특정 사용자의 팔로워 목록을 조회합니다. (follows.id 기준 keyset 페이지네이션)
      */
-    public List<UserResponse> getFollowers(String username) {
+    public FollowPageResponse getFollowers(String username, Long viewerId, Long cursor, int size) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        return followRepository.findFollowersByFollowingId(user.getId()).stream()
-                .map(follow -> UserResponse.from(follow.getFollower()))
-                .toList();
+        int limit = normalizePageSize(size);
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<FollowUserProjection> rows = followRepository.findFollowerPage(user.getId(), cursor, limit + 1);
+        return toFollowPage(rows, limit, viewerId);
     }
 
     /**
-     * 특정 사용자가 팔로잉하는 목록을 조회합니다.
+     * 특정 사용자가 팔로잉하는 목록을 조회합니다. (follows.id 기준 keyset 페이지네이션)
      */
-    public List<UserResponse> getFollowings(String username) {
+    public FollowPageResponse getFollowings(String username, Long viewerId, Long cursor, int size) {
         User user  = userRepository.findByUsername(username)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        return followRepository.findFollowingsByFollowerId(user.getId()).stream()
-                .map(follow -> UserResponse.from(follow.getFollowing()))
+        int limit = normalizePageSize(size);
+        List<FollowUserProjection> rows = followRepository.findFollowingPage(user.getId(), cursor, limit + 1);
+        return toFollowPage(rows, limit, viewerId);
+    }
+
+    /**
+     * 팔로우 추천 목록을 조회합니다. (FollowSuggestionJob이 미리 계산한 결과)
+     * 배치 이후 이미 팔로우한 사용자는 제외합니다.
+     */
+    public List<FollowSuggestionResponse> getSuggestions(Long userId, int size) {
+        if (userId == null) {
+            throw new CustomException(ErrorCode.LOGIN_REQUIRED);
+        }
+        int limit = Math.max(1, Math.min(size, 50));
+
+        return followSuggestionRepository.findSuggestions(userId, limit).stream()
+                .filter(s -> !(followGraph.isReady() && followGraph.follows(userId, s.getId())))
+                .map(FollowSuggestionResponse::from)
+                .toList();
+    }
+
+    private int normalizePageSize(int size) {
+        return Math.max(1, Math.min(size, 100));
+    }
+
+    // 페이지 전체의 팔로우 여부 플래그를 한 번에 계산 (그래프 준비 전에는 한 번의 배치 쿼리)
+    private FollowPageResponse toFollowPage(List<FollowUserProjection> rows, int limit, Long viewerId) {
+        boolean hasNext = rows.size() > limit;
+        List<FollowUserProjection> page = hasNext ? rows.subList(0, limit) : rows;
+
+        Set<Long> followedByMe = new HashSet<>();
+        Set<Long> followsMe = new HashSet<>();
+        if (viewerId != null && !page.isEmpty()) {
+            List<Long> userIds = page.stream().map(FollowUserProjection::getId).toList();
+            if (followGraph.isReady()) {
+                for (Long id : userIds) {
+                    if (followGraph.follows(viewerId, id)) followedByMe.add(id);
+                    if (followGraph.follows(id, viewerId)) followsMe.add(id);
+                }
+            } else {
+                for (Object[] row : followRepository.findRelationsWith(viewerId, userIds)) {
+                    long followerId = ((Number) row[0]).longValue();
+                    long followingId = ((Number) row[1]).longValue();
+                    if (followerId == viewerId) followedByMe.add(followingId);
+                    if (followingId == viewerId) followsMe.add(followerId);
+                }
+            }
+        }
+
+        List<FollowUserResponse> users = page.stream()
+                .map(p -> FollowUserResponse.of(p, followedByMe.contains(p.getId()), followsMe.contains(p.getId())))
                 .toList();
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getFollowId() : null;
+        return FollowPageResponse.of(users, nextCursor);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,128 @@
+package com.example.devso.service;
+
+import com.example.devso.repository.UserRepository;
+import com.example.devso.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * username / email 사용 여부 확인용 Bloom filter
+ * - filter에 없으면 DB 조회 없이 "사용 가능" 응답
+ * - filter에 있을 수도 있는 경우에만 인덱스 조회로 확인
+ * - 이메일 변경 등으로 빠진 값은 지울 수 없으므로 매일 새로 구성 (그 전까지는 DB 확인으로 처리됨)
+ * - DB collation이 대소문자를 구분하지 않으므로 소문자로 정규화해서 저장
+ */
+@Slf4j
+@Component
+public class IdentityAvailabilityFilter {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final long minCapacity;
+
+    private volatile BloomFilter usernames;
+    private volatile BloomFilter emails;
+    // 재구성 중 추가된 값을 새 filter에도 반영
+    private volatile BloomFilter buildingUsernames;
+    private volatile BloomFilter buildingEmails;
+
+    public IdentityAvailabilityFilter(JdbcTemplate jdbcTemplate,
+                                      UserRepository userRepository,
+                                      @Value("${identity-filter.min-capacity:100000}") long minCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.minCapacity = minCapacity;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // 매일 새벽 3시 30분 재구성
+    @Scheduled(cron = "0 30 3 * * ?", zone = "Asia/Seoul")
+    public void rebuild() {
+        try {
+            long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+            long capacity = Math.max(minCapacity, count * 2);
+            BloomFilter newUsernames = BloomFilter.create(capacity, FALSE_POSITIVE_RATE);
+            BloomFilter newEmails = BloomFilter.create(capacity, FALSE_POSITIVE_RATE);
+            buildingUsernames = newUsernames;
+            buildingEmails = newEmails;
+
+            // 탈퇴 유저도 username 유니크 제약에 걸리므로 전체 포함
+            jdbcTemplate.query("SELECT username, email FROM users", (RowCallbackHandler) rs -> {
+                String username = rs.getString(1);
+                String email = rs.getString(2);
+                if (username != null) {
+                    newUsernames.put(normalize(username));
+                }
+                if (email != null && !email.isBlank()) {
+                    newEmails.put(normalize(email));
+                }
+            });
+
+            usernames = newUsernames;
+            emails = newEmails;
+            log.info("[IdentityFilter] 구성 완료 - users: {}, bits: {}", count, newUsernames.bitSize());
+        } catch (RuntimeException e) {
+            log.error("[IdentityFilter] 구성 실패: {}", e.getMessage());
+        } finally {
+            buildingUsernames = null;
+            buildingEmails = null;
+        }
+    }
+
+    public boolean isUsernameTaken(String username) {
+        BloomFilter filter = usernames;
+        if (filter != null && !filter.mightContain(normalize(username))) {
+            return false;
+        }
+        return userRepository.existsByUsername(username) == 1;
+    }
+
+    // excludeUserId 본인의 이메일은 제외
+    public boolean isEmailTaken(String email, long excludeUserId) {
+        if (email == null || email.isBlank()) {
+            return false;
+        }
+        BloomFilter filter = emails;
+        if (filter != null && !filter.mightContain(normalize(email))) {
+            return false;
+        }
+        return userRepository.existsByEmail(email, excludeUserId) > 0;
+    }
+
+    // 가입 / 프로필 변경 커밋 이후 호출
+    public void add(String username, String email) {
+        if (username != null) {
+            put(usernames, buildingUsernames, normalize(username));
+        }
+        if (email != null && !email.isBlank()) {
+            put(emails, buildingEmails, normalize(email));
+        }
+    }
+
+    private static void put(BloomFilter current, BloomFilter building, String value) {
+        if (current != null) {
+            current.put(value);
+        }
+        if (building != null) {
+            building.put(value);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -3,13 +3,34 @@ package com.example.devso.service;
 
 import com.example.devso.dto.response.KakaoTokenResponse;
 import com.example.devso.dto.response.KakaoUserResponse;
+import com.example.devso.exception.CustomException;
+import com.example.devso.exception.ErrorCode;
+import io.netty.channel.ConnectTimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * 카카오 OAuth API 호출 (논블로킹, 호출하는 쪽에서 Mono를 조합)
+ * - 토큰 발급: 인가 코드는 1회용이므로 요청이 나가기 전 실패(연결 실패/풀 대기 초과)만 재시도
+ * - 사용자 정보 조회: 조회(GET)이므로 연결/타임아웃 오류와 5xx, 429도 재시도
+ * - 재시도는 지수 백오프 + 지터
+ */
+@Slf4j
 @Service
 public class KakaoOauthService {
 
@@ -23,47 +44,82 @@ public class KakaoOauthService {
     private String tokenUri;
     @Value("${oauth.kakao.user-info-uri}")
     private String userInfoUri;
+    @Value("${oauth.kakao.http.max-retries:2}")
+    private int maxRetries;
+    @Value("${oauth.kakao.http.retry-backoff-millis:100}")
+    private long retryBackoffMillis;
 
-    private final WebClient webClient =  WebClient.create();  // axios 같은 기능
+    private final WebClient webClient;
 
+    public KakaoOauthService(@Qualifier("kakaoWebClient") WebClient webClient) {
+        this.webClient = webClient;
+    }
 
     // 카카오 authorization code 로 access Token 획득
-    public KakaoTokenResponse getToken(String code) {
-        try{
-            MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-            formData.add("grant_type", "authorization_code");
-            formData.add("client_id", clientId);
-            formData.add("client_secret", clientSecret);
-            formData.add("code", code);
-            formData.add("redirect_uri", redirectUri);
-
-            return webClient.post()
-                    .uri(tokenUri)
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .bodyValue(formData)
-                    .retrieve()
-                    .bodyToMono(KakaoTokenResponse.class)
-                    .block();
+    public Mono<KakaoTokenResponse> getToken(String code) {
+        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+        formData.add("grant_type", "authorization_code");
+        formData.add("client_id", clientId);
+        formData.add("client_secret", clientSecret);
+        formData.add("code", code);
+        formData.add("redirect_uri", redirectUri);
 
-        } catch (Exception e) {
-            throw new IllegalArgumentException("토큰이 없습니다.");
-        }
+        return webClient.post()
+                .uri(tokenUri)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .bodyValue(formData)
+                .retrieve()
+                .bodyToMono(KakaoTokenResponse.class)
+                .retryWhen(retry(KakaoOauthService::isNotSent))
+                .filter(token -> token.getAccessToken() != null)
+                .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.OAUTH_TOKEN_FAILED)))
+                .onErrorMap(e -> !(e instanceof CustomException), e -> {
+                    log.warn("[KakaoOauth] 토큰 발급 실패: {}", e.getMessage());
+                    return new CustomException(ErrorCode.OAUTH_TOKEN_FAILED);
+                });
     }
 
     // access Token 으로 사용자 정보 조회
-    public KakaoUserResponse getUserInfo(String accessToken) {
-        try{
-            return webClient.get()
-                    .uri(userInfoUri)
-                    .header("Authorization", "Bearer " + accessToken)
-                    .retrieve()
-                    .bodyToMono(KakaoUserResponse.class)
-                    .block();
+    public Mono<KakaoUserResponse> getUserInfo(String accessToken) {
+        return webClient.get()
+                .uri(userInfoUri)
+                .header("Authorization", "Bearer " + accessToken)
+                .retrieve()
+                .bodyToMono(KakaoUserResponse.class)
+                .retryWhen(retry(KakaoOauthService::isTransient))
+                .filter(user -> user.getId() != null)
+                .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.OAUTH_USER_INFO_FAILED)))
+                .onErrorMap(e -> !(e instanceof CustomException), e -> {
+                    log.warn("[KakaoOauth] 사용자 정보 조회 실패: {}", e.getMessage());
+                    return new CustomException(ErrorCode.OAUTH_USER_INFO_FAILED);
+                });
+    }
 
+    private Retry retry(Predicate<Throwable> retryable) {
+        return Retry.backoff(maxRetries, Duration.ofMillis(retryBackoffMillis))
+                .jitter(0.5)
+                .filter(retryable)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
 
-        } catch (Exception e) {
-            throw e;
+    // 요청이 카카오에 도달하기 전에 실패한 경우
+    private static boolean isNotSent(Throwable e) {
+        if (!(e instanceof WebClientRequestException)) {
+            return false;
         }
+        Throwable cause = e.getCause();
+        return cause instanceof ConnectException
+                || cause instanceof ConnectTimeoutException
+                || cause instanceof TimeoutException; // 커넥션 풀 대기 초과
     }
 
-}
\ No newline at end of file
+    private static boolean isTransient(Throwable e) {
+        if (e instanceof WebClientRequestException) {
+            return true;
+        }
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.devso.service;
+
+import com.example.devso.dto.response.LeaderboardEntryResponse;
+import com.example.devso.dto.response.LeaderboardResponse;
+import com.example.devso.dto.response.UserResponse;
+import com.example.devso.entity.User;
+import com.example.devso.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LeaderboardService {
+
+    private static final int MAX_SIZE = 100;
+
+    private final ContributorLeaderboard contributorLeaderboard;
+    private final UserRepository userRepository;
+
+    // 이번 주 상위 기여자
+    public LeaderboardResponse getWeeklyTop(int size) {
+        List<ContributorLeaderboard.Ranked> top = contributorLeaderboard.top(Math.max(1, Math.min(size, MAX_SIZE)));
+
+        // 탈퇴한 유저는 목록에서 제외 (순위 번호는 그대로 유지)
+        Map<Long, User> users = userRepository.findAllById(top.stream().map(ContributorLeaderboard.Ranked::userId).toList())
+                .stream()
+                .filter(user -> !user.isDeleted())
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<LeaderboardEntryResponse> entries = top.stream()
+                .filter(r -> users.containsKey(r.userId()))
+                .map(r -> toEntry(r, users.get(r.userId())))
+                .toList();
+
+        LocalDateTime windowStart = contributorLeaderboard.getWindowStart();
+        return LeaderboardResponse.builder()
+                .windowStart(windowStart)
+                .windowEnd(windowStart.plusWeeks(1))
+                .entries(entries)
+                .build();
+    }
+
+    // 내 순위 (이번 주 활동이 없으면 null)
+    public LeaderboardEntryResponse getMyStanding(Long userId) {
+        ContributorLeaderboard.Ranked ranked = contributorLeaderboard.standing(userId);
+        if (ranked == null) {
+            return null;
+        }
+        return userRepository.findById(userId)
+                .map(user -> toEntry(ranked, user))
+                .orElse(null);
+    }
+
+    private static LeaderboardEntryResponse toEntry(ContributorLeaderboard.Ranked ranked, User user) {
+        return LeaderboardEntryResponse.builder()
+                .rank(ranked.rank())
+                .score(ranked.score())
+                .user(UserResponse.from(user))
+                .build();
+    }
+}
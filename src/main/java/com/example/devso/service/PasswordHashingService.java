@@ -0,0 +1,100 @@
+package com.example.devso.service;
+
+import com.example.devso.exception.CustomException;
+import com.example.devso.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 해시/비교 전용 실행기
+ * - 요청 스레드 대신 크기가 정해진 풀에서 실행 (로그인 몰림이 Tomcat 스레드 전체를 잡지 않도록)
+ * - 대기열이 가득 차거나 대기 시간을 넘기면 바로 429 (TOO_MANY_REQUESTS)
+ * - 소셜 가입 유저는 비밀번호를 해시하지 않고 OAUTH_PASSWORD로 저장 (비밀번호 로그인 불가)
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    // BCrypt 형식이 아니므로 어떤 입력과도 일치하지 않음
+    public static final String OAUTH_PASSWORD = "!oauth";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Value("${password.hashing.threads:0}") int threads,
+                                  @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+                                  @Value("${password.hashing.timeout-millis:3000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors());
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null || OAUTH_PASSWORD.equals(encodedPassword)) {
+            return false;
+        }
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시의 cost가 현재 설정보다 낮으면 true (로그인 성공 시 다시 해시)
+    public boolean needsRehash(String encodedPassword) {
+        return encodedPassword != null && !OAUTH_PASSWORD.equals(encodedPassword)
+                && passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("[PasswordHashing] 대기열 초과 - queued: {}", executor.getQueue().size());
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("[PasswordHashing] 대기 시간 초과 - queued: {}", executor.getQueue().size());
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new CustomException(ErrorCode.INTERNAL_ERROR);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 해시 처리 실패", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
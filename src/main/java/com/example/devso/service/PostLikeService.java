@@ -6,13 +6,17 @@ import com.example.devso.entity.PostLike;
 import com.example.devso.entity.User;
 import com.example.devso.exception.CustomException;
 import com.example.devso.exception.ErrorCode;
+import com.example.devso.repository.LikeTargetProjection;
 import com.example.devso.repository.PostLikeRepository;
 import com.example.devso.repository.PostRepository;
 import com.example.devso.repository.UserRepository;
+import com.example.devso.util.TransactionHooks;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 
 @Service
 @RequiredArgsConstructor
@@ -21,26 +25,34 @@ public class PostLikeService {
     private final PostLikeRepository postLikeRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final PostLikerCache postLikerCache;
+    private final UserStatsService userStatsService;
+    private final ContributorLeaderboard contributorLeaderboard;
 
     @Transactional
     public LikeResponse like(Long userId, Long postId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(()->new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        Post post = postRepository.findByIdAndDeletedAtIsNull(postId)
+        // 게시물 존재 + 작성자 + 이미 좋아요 했는지를 쿼리 한 번으로 확인
+        LikeTargetProjection target = postLikeRepository.findLikeTarget(postId, userId)
                 .orElseThrow(()->new CustomException(ErrorCode.POST_NOT_FOUND));
-
-        // 이미 좋아요 했는지 확인
-        if(postLikeRepository.existsByUserIdAndPostId(userId, postId)) {
+        if (target.getLiked() != null && target.getLiked() == 1) {
             throw new CustomException(ErrorCode.ALREADY_LIKED);
         }
 
+        // 로그인 유저 / 확인된 게시물은 FK만 필요하므로 조회 없이 프록시로 연결
+        User user = userRepository.getReferenceById(userId);
+        Post post = postRepository.getReferenceById(postId);
         PostLike postLike = PostLike.builder()
                 .user(user)
                 .post(post)
                 .build();
 
         postLikeRepository.save(postLike);
+        Long postOwnerId = target.getOwnerId();
+        userStatsService.onLikesReceivedChanged(postOwnerId, 1);
+        TransactionHooks.afterCommit(() -> {
+            postLikerCache.evict(postId);
+            contributorLeaderboard.onLikeReceived(postOwnerId);
+        });
 
         long likeCount = postLikeRepository.countByPostId(postId);
         return LikeResponse.of(true, likeCount);
@@ -49,14 +61,19 @@ public class PostLikeService {
 
     @Transactional
     public LikeResponse unlike(Long userId, Long postId) {
-        if (!postRepository.existsByIdAndDeletedAtIsNull(postId)) {
-            throw new CustomException(ErrorCode.POST_NOT_FOUND);
-        }
+        Long postOwnerId = postRepository.findOwnerIdById(postId)
+                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
 
         PostLike postLike = postLikeRepository.findByUserIdAndPostId(userId, postId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_LIKED));
 
+        LocalDateTime likedAt = postLike.getCreatedAt();
         postLikeRepository.delete(postLike);
+        userStatsService.onLikesReceivedChanged(postOwnerId, -1);
+        TransactionHooks.afterCommit(() -> {
+            postLikerCache.evict(postId);
+            contributorLeaderboard.onLikeRemoved(postOwnerId, likedAt);
+        });
 
         long likeCount = postLikeRepository.countByPostId(postId);
         return LikeResponse.of(false, likeCount);
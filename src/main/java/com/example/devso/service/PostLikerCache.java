@@ -0,0 +1,99 @@
+package com.example.devso.service;
+
+import com.example.devso.repository.PostLikeRepository;
+import com.example.devso.util.LruCache;
+import com.example.devso.util.SortedLongs;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시물별 좋아요 유저 ID 집합 캐시
+ * - 게시물당 최근 maxLikersPerPost명까지만 보관 (교집합용 정렬 배열 + 대표 선정용 최근 순 배열)
+ * - 캐시에 없는 게시물은 한 번의 쿼리로 일괄 로딩
+ * - 무효화: 좋아요 / 취소 커밋 이후 (로딩 도중 무효화가 있었으면 결과만 쓰고 캐시에는 넣지 않음)
+ */
+@Component
+public class PostLikerCache {
+
+    private final PostLikeRepository postLikeRepository;
+    private final int maxLikersPerPost;
+    private final LruCache<Long, Likers> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public PostLikerCache(PostLikeRepository postLikeRepository,
+                          @Value("${social-proof.max-likers-per-post:500}") int maxLikersPerPost,
+                          @Value("${social-proof.cache-size:5000}") int cacheSize) {
+        this.postLikeRepository = postLikeRepository;
+        this.maxLikersPerPost = maxLikersPerPost;
+        this.cache = new LruCache<>(cacheSize);
+    }
+
+    // sorted: 오름차순 / 중복 제거, recent: 최근에 좋아요한 순
+    public record Likers(long[] sorted, long[] recent) {
+        public static final Likers EMPTY = new Likers(SortedLongs.EMPTY, SortedLongs.EMPTY);
+    }
+
+    public Map<Long, Likers> getLikers(Collection<Long> postIds) {
+        Map<Long, Likers> result = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long postId : postIds) {
+            Likers cached = cache.get(postId);
+            if (cached != null) {
+                result.put(postId, cached);
+            } else {
+                misses.add(postId);
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        long before = generation.get();
+        Map<Long, long[]> buffers = new HashMap<>();
+        Map<Long, Integer> sizes = new HashMap<>();
+        for (Object[] row : postLikeRepository.findRecentLikerIdsByPostIds(misses, maxLikersPerPost)) {
+            long postId = ((Number) row[0]).longValue();
+            long userId = ((Number) row[1]).longValue();
+            long[] buf = buffers.computeIfAbsent(postId, k -> new long[8]);
+            int n = sizes.getOrDefault(postId, 0);
+            if (n == buf.length) {
+                buf = Arrays.copyOf(buf, n * 2);
+                buffers.put(postId, buf);
+            }
+            buf[n] = userId;
+            sizes.put(postId, n + 1);
+        }
+
+        synchronized (this) {
+            boolean fresh = generation.get() == before;
+            for (Long postId : misses) {
+                long[] buf = buffers.get(postId);
+                Likers likers = Likers.EMPTY;
+                if (buf != null) {
+                    long[] recent = Arrays.copyOf(buf, sizes.get(postId));
+                    likers = new Likers(SortedLongs.sortDistinct(buf, sizes.get(postId)), recent);
+                }
+                if (fresh) {
+                    cache.put(postId, likers);
+                }
+                result.put(postId, likers);
+            }
+        }
+        return result;
+    }
+
+    public void evict(Long postId) {
+        synchronized (this) {
+            generation.incrementAndGet();
+            cache.remove(postId);
+        }
+    }
+}
@@ -2,7 +2,9 @@ package com.example.devso.service;
 
 import com.example.devso.dto.request.PostCreateRequest;
 import com.example.devso.dto.request.PostUpdateRequest;
+import com.example.devso.dto.response.LikedByFollowingResponse;
 import com.example.devso.dto.response.PostResponse;
+import com.example.devso.dto.response.UserCard;
 import com.example.devso.dto.response.ViewCountResponse;
 import com.example.devso.entity.Post;
 import com.example.devso.entity.User;
@@ -14,6 +16,7 @@ import com.example.devso.repository.PostLikeRepository;
 import com.example.devso.repository.PostRepository;
 import com.example.devso.repository.PostViewRepository;
 import com.example.devso.repository.UserRepository;
+import com.example.devso.util.TransactionHooks;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;   
@@ -26,7 +29,10 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -40,6 +46,11 @@ public class PostService {
     private final CommentRepository commentRepository;
     private final PostViewRepository postViewRepository;
     private final FollowRepository followRepository;
+    private final SocialProofService socialProofService;
+    private final UserStatsService userStatsService;
+    private final FollowGraph followGraph;
+    private final ContributorLeaderboard contributorLeaderboard;
+    private final UserCardCache userCardCache;
 
     @Transactional
     public PostResponse create(Long userId, PostCreateRequest request) {
@@ -54,14 +65,16 @@ public class PostService {
                 .build();
 
         Post saved = postRepository.save(post);
+        userStatsService.onPostCountChanged(userId, 1);
+        TransactionHooks.afterCommit(() -> contributorLeaderboard.onPostCreated(userId));
         return PostResponse.from(saved);
 
     }
 
     // 전체 게시물
     public Page<PostResponse> findAll(Long currentUserId, Pageable pageable) {
-        Page<Post> posts = postRepository.findAllWithUser(pageable);
-        return posts.map(post -> toPostResponseWithStats(post, currentUserId));
+        Page<Post> posts = postRepository.findAllActive(pageable);
+        return toPostResponsePage(posts, currentUserId);
     }
 
     // 이번 주(월요일 00:00 기준) 새 게시글 수
@@ -80,7 +93,7 @@ public class PostService {
             return findAll(currentUserId, pageable);
         }
         Page<Post> posts = postRepository.searchAll(q.trim(), pageable);
-        return posts.map(post -> toPostResponseWithStats(post, currentUserId));
+        return toPostResponsePage(posts, currentUserId);
     }
 
     // 피드(내 팔로잉 + 내 글)
@@ -89,11 +102,10 @@ public class PostService {
             throw new CustomException(ErrorCode.INVALID_INPUT);
         }
 
-        List<Long> userIds = followRepository.findFollowingIdsByFollowerId(currentUserId);
-        if (!userIds.contains(currentUserId)) userIds.add(currentUserId);
+        List<Long> userIds = feedAuthorIds(currentUserId);
 
         Page<Post> posts = postRepository.findByUserIdsPage(userIds, pageable);
-        return posts.map(post -> toPostResponseWithStats(post, currentUserId));
+        return toPostResponsePage(posts, currentUserId);
     }
 
     // 피드 검색(제목/내용/작성자)
@@ -105,18 +117,17 @@ public class PostService {
             throw new CustomException(ErrorCode.INVALID_INPUT);
         }
 
-        List<Long> userIds = followRepository.findFollowingIdsByFollowerId(currentUserId);
-        if (!userIds.contains(currentUserId)) userIds.add(currentUserId);
+        List<Long> userIds = feedAuthorIds(currentUserId);
 
         Page<Post> posts = postRepository.searchFeed(userIds, q.trim(), pageable);
-        return posts.map(post -> toPostResponseWithStats(post, currentUserId));
+        return toPostResponsePage(posts, currentUserId);
     }
 
     // 트렌딩(최근 24시간 인기)
     public Page<PostResponse> findTrending(Long currentUserId, Pageable pageable) {
         // 트렌딩은 전체 기간 기준으로 고정
         Page<Post> posts = postRepository.findTrendingAllTime(pageable);
-        return posts.map(post -> toPostResponseWithStats(post, currentUserId));
+        return toPostResponsePage(posts, currentUserId);
     }
 
     // 단일 게시물
@@ -124,7 +135,9 @@ public class PostService {
         Post post = postRepository.findByIdWithUser(postId)
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
 
-        return toPostResponseWithStats(post, currentUserId);
+        return toPostResponseWithStats(post, currentUserId,
+                socialProofService.findLikedByFollowing(currentUserId, List.of(post.getId())),
+                userCardCache.getAll(List.of(post.getUser().getId())));
     }
 
     /**
@@ -181,10 +194,13 @@ public class PostService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        List<Post> posts = postRepository.findByUserIdWithUser(user.getId());
+        List<Post> posts = postRepository.findActiveByUserId(user.getId());
+        Map<Long, LikedByFollowingResponse> likedByFollowing =
+                socialProofService.findLikedByFollowing(currentUserId, posts.stream().map(Post::getId).toList());
+        Map<Long, UserCard> authors = Map.of(user.getId(), UserCard.from(user));
 
         return posts.stream()
-                .map(post -> toPostResponseWithStats(post, currentUserId))
+                .map(post -> toPostResponseWithStats(post, currentUserId, likedByFollowing, authors))
                 .toList();
     }
 
@@ -218,15 +234,48 @@ public class PostService {
         post.markDeleted();
         postRepository.save(post);
 
+        // 삭제된 게시물의 좋아요는 받은 좋아요 수에서 제외
+        userStatsService.onPostCountChanged(userId, -1);
+        userStatsService.onLikesReceivedChanged(userId, -postLikeRepository.countByPostId(postId));
+        LocalDateTime createdAt = post.getCreatedAt();
+        TransactionHooks.afterCommit(() -> contributorLeaderboard.onPostDeleted(userId, createdAt));
+
+    }
+
+    // 피드 대상 작성자: 내 팔로잉 + 나 (팔로우 그래프 준비 전에는 DB 조회)
+    private List<Long> feedAuthorIds(Long currentUserId) {
+        List<Long> userIds = followGraph.isReady()
+                ? Arrays.stream(followGraph.followingIds(currentUserId)).boxed().collect(Collectors.toList())
+                : followRepository.findFollowingIdsByFollowerId(currentUserId);
+        if (!userIds.contains(currentUserId)) userIds.add(currentUserId);
+        return userIds;
+    }
+
+    // 페이지 단위로 소셜 프루프 / 작성자 요약을 한 번에 계산
+    private Page<PostResponse> toPostResponsePage(Page<Post> posts, Long currentUserId) {
+        Map<Long, LikedByFollowingResponse> likedByFollowing = socialProofService.findLikedByFollowing(
+                currentUserId, posts.getContent().stream().map(Post::getId).toList());
+        // post.getUser().getId()는 프록시 초기화 없이 FK 값만 읽음
+        Map<Long, UserCard> authors = userCardCache.getAll(
+                posts.getContent().stream().map(post -> post.getUser().getId()).toList());
+        return posts.map(post -> toPostResponseWithStats(post, currentUserId, likedByFollowing, authors));
     }
 
     private PostResponse toPostResponseWithStats(Post post, Long currentUserId) {
+        return toPostResponseWithStats(post, currentUserId, Map.of(),
+                userCardCache.getAll(List.of(post.getUser().getId())));
+    }
+
+    private PostResponse toPostResponseWithStats(Post post, Long currentUserId,
+                                                 Map<Long, LikedByFollowingResponse> likedByFollowing,
+                                                 Map<Long, UserCard> authors) {
         boolean liked = currentUserId != null
                 && postLikeRepository.existsByUserIdAndPostId(currentUserId, post.getId());
         long likeCount = postLikeRepository.countByPostId(post.getId());
         long commentCount = commentRepository.countByPostIdAndDeletedAtIsNull(post.getId());
 
-        return PostResponse.from(post, liked, likeCount, commentCount);
+        return PostResponse.from(post, authors.get(post.getUser().getId()), liked, likeCount, commentCount,
+                likedByFollowing.get(post.getId()));
 
     }
 }
@@ -0,0 +1,104 @@
+package com.example.devso.service;
+
+import com.example.devso.dto.response.UserProfileResponse;
+import com.example.devso.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 프로필 집계(유저 + 이력 5종 + 카운트) 캐시
+ * - userId 기준, 값은 불변 UserProfileResponse (isFollowing은 조회 시 덧씌움)
+ * - 무효화: 프로필 수정 / 탈퇴 커밋 이후
+ * - user_stats 카운트 변경(팔로우/게시물/좋아요)은 무효화하지 않고 캐시된 값에 증감분만 반영
+ * - 버전 번호는 userId 해시 구간(VERSION_STRIPES개)별로 관리 (다른 유저 변경과 겹치면 저장을 한 번 건너뛸 뿐)
+ *   - 로딩 시작 시 버전과 저장 시 버전이 다르면 오래된 값일 수 있으므로 저장하지 않음
+ *   - 카운트 변경은 쓰기 전에 버전을 올리고(beginChange), 커밋 이후 그보다 먼저 로딩된 값에만 증감분 적용
+ *     (그 이후 로딩된 값은 증감분이 이미 들어 있을 수 있으므로 제거)
+ */
+@Component
+public class ProfileCache {
+
+    private static final int VERSION_STRIPES = 4096;
+
+    private final LruCache<Long, Entry> profiles;
+    // username은 변경되지 않으므로 id 매핑은 탈퇴 시에만 제거
+    private final LruCache<String, Long> usernameToId;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    public ProfileCache(@Value("${profile-cache.size:2000}") int size) {
+        this.profiles = new LruCache<>(size);
+        this.usernameToId = new LruCache<>(size * 2);
+    }
+
+    public Long findUserId(String username) {
+        return usernameToId.get(username);
+    }
+
+    public UserProfileResponse get(Long userId, Supplier<UserProfileResponse> loader) {
+        Entry cached = profiles.get(userId);
+        if (cached != null) {
+            return cached.profile;
+        }
+
+        int stripe = stripe(userId);
+        long before = versions.get(stripe);
+        UserProfileResponse loaded = loader.get();
+        synchronized (this) {
+            if (versions.get(stripe) == before) {
+                profiles.put(userId, new Entry(loaded, before));
+                usernameToId.put(loaded.getUsername(), userId);
+            }
+        }
+        return loaded;
+    }
+
+    // 카운트 쓰기 전에 호출 (트랜잭션 안), 반환값은 커밋 이후 applyChange에 넘김
+    public long beginChange(Long userId) {
+        return versions.incrementAndGet(stripe(userId));
+    }
+
+    // 커밋 이후 호출: beginChange 이전에 로딩된 값이면 증감분 적용, 아니면 제거
+    public void applyChange(Long userId, long version, UnaryOperator<UserProfileResponse> change) {
+        int stripe = stripe(userId);
+        synchronized (this) {
+            versions.incrementAndGet(stripe);
+            Entry cached = profiles.get(userId);
+            if (cached == null) {
+                return;
+            }
+            if (cached.version < version) {
+                profiles.put(userId, new Entry(change.apply(cached.profile), cached.version));
+            } else {
+                profiles.remove(userId);
+            }
+        }
+    }
+
+    public void evict(Long userId) {
+        synchronized (this) {
+            versions.incrementAndGet(stripe(userId));
+            profiles.remove(userId);
+        }
+    }
+
+    // 탈퇴 등 username 매핑까지 제거해야 하는 경우
+    public void evict(Long userId, String username) {
+        synchronized (this) {
+            versions.incrementAndGet(stripe(userId));
+            profiles.remove(userId);
+            usernameToId.remove(username);
+        }
+    }
+
+    private static int stripe(Long userId) {
+        return (int) (userId & (VERSION_STRIPES - 1));
+    }
+
+    // version: 로딩을 시작할 때의 버전
+    private record Entry(UserProfileResponse profile, long version) {
+    }
+}
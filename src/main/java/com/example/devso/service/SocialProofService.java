@@ -0,0 +1,123 @@
+package com.example.devso.service;
+
+import com.example.devso.dto.response.LikedByFollowingResponse;
+import com.example.devso.dto.response.UserResponse;
+import com.example.devso.repository.FollowRepository;
+import com.example.devso.repository.UserRepository;
+import com.example.devso.util.SortedLongs;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * "내가 팔로우하는 사람이 좋아한 게시물" 표시
+ * - 페이지 단위로 한 번에 계산 (게시물 카드마다 JOIN 쿼리를 날리지 않음)
+ * - 게시물의 좋아요 유저 집합과 내 팔로잉 집합을 정렬된 long[] 병합으로 교집합 -> "외 N명" = 교집합 크기 - 1
+ * - 대표 유저는 교집합 중 가장 최근에 좋아요한 유저 (탈퇴한 유저면 그다음 유저)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SocialProofService {
+
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+    private final PostLikerCache postLikerCache;
+    private final FollowGraph followGraph;
+
+    public Map<Long, LikedByFollowingResponse> findLikedByFollowing(Long viewerId, List<Long> postIds) {
+        if (viewerId == null || postIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        long[] following = followGraph.isReady()
+                ? followGraph.followingIds(viewerId)
+                : SortedLongs.of(followRepository.findFollowingIdsByFollowerId(viewerId));
+        if (following.length == 0) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, PostLikerCache.Likers> likers = postLikerCache.getLikers(postIds);
+
+        // 게시물별 교집합 -> 대표 후보를 최근 순으로 정렬
+        Map<Long, Candidates> candidatesByPost = new HashMap<>();
+        for (Long postId : postIds) {
+            PostLikerCache.Likers postLikers = likers.getOrDefault(postId, PostLikerCache.Likers.EMPTY);
+            long[] common = SortedLongs.intersect(postLikers.sorted(), following);
+            if (common.length > 0) {
+                candidatesByPost.put(postId, new Candidates(byRecency(postLikers.recent(), common)));
+            }
+        }
+
+        // 후보 순서대로 한 번에 조회, 탈퇴한 대표가 있는 게시물만 다음 후보로 다시 조회
+        Map<Long, UserResponse> users = new HashMap<>();
+        Map<Long, LikedByFollowingResponse> result = new HashMap<>();
+        while (!candidatesByPost.isEmpty()) {
+            Set<Long> toLoad = new HashSet<>();
+            candidatesByPost.values().forEach(c -> toLoad.add(c.current()));
+            toLoad.removeAll(users.keySet());
+            if (!toLoad.isEmpty()) {
+                userRepository.findAllById(toLoad).stream()
+                        .filter(u -> u.getDeletedAt() == null)
+                        .forEach(u -> users.put(u.getId(), UserResponse.from(u)));
+            }
+
+            Iterator<Map.Entry<Long, Candidates>> it = candidatesByPost.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Long, Candidates> entry = it.next();
+                Candidates c = entry.getValue();
+                UserResponse user = users.get(c.current());
+                if (user != null) {
+                    result.put(entry.getKey(), LikedByFollowingResponse.of(user, c.remaining() - 1));
+                    it.remove();
+                } else if (!c.advance()) {
+                    it.remove();
+                }
+            }
+        }
+        return result;
+    }
+
+    // 교집합(common, 정렬)을 최근에 좋아요한 순으로 (common은 보통 몇 명이라 이진 탐색, 다 찾으면 중단)
+    private static long[] byRecency(long[] recent, long[] common) {
+        long[] ordered = new long[common.length];
+        int n = 0;
+        for (int i = 0; i < recent.length && n < common.length; i++) {
+            if (SortedLongs.contains(common, recent[i])) {
+                ordered[n++] = recent[i];
+            }
+        }
+        return n == ordered.length ? ordered : Arrays.copyOf(ordered, n);
+    }
+
+    // 게시물별 대표 후보 (앞에서 건너뛴 탈퇴 유저는 "외 N명"에서도 제외)
+    private static final class Candidates {
+        private final long[] ids;
+        private int index;
+
+        Candidates(long[] ids) {
+            this.ids = ids;
+        }
+
+        long current() {
+            return ids[index];
+        }
+
+        boolean advance() {
+            return ++index < ids.length;
+        }
+
+        int remaining() {
+            return ids.length - index;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.devso.service;
+
+import com.example.devso.dto.response.UserCard;
+import com.example.devso.repository.UserRepository;
+import com.example.devso.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 작성자 요약(UserCard) 캐시
+ * - 목록 조회에서 User 전체(비밀번호 해시, bio 등)를 JOIN FETCH 하지 않고 ID로 한 번에 채움
+ * - 미스분만 IN 쿼리 1회로 로딩
+ * - 무효화: 이름/프로필 이미지 변경, 탈퇴 커밋 이후
+ */
+@Component
+public class UserCardCache {
+
+    private final UserRepository userRepository;
+    private final LruCache<Long, UserCard> cards;
+    private final AtomicLong generation = new AtomicLong();
+
+    public UserCardCache(UserRepository userRepository,
+                         @Value("${user-card-cache.size:5000}") int size) {
+        this.userRepository = userRepository;
+        this.cards = new LruCache<>(size);
+    }
+
+    public UserCard get(Long userId) {
+        return userId == null ? null : getAll(List.of(userId)).get(userId);
+    }
+
+    public Map<Long, UserCard> getAll(Collection<Long> userIds) {
+        Map<Long, UserCard> result = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long id : userIds) {
+            if (id == null || result.containsKey(id)) {
+                continue;
+            }
+            UserCard card = cards.get(id);
+            if (card != null) {
+                result.put(id, card);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        // 로딩 도중 무효화가 있었으면 결과만 쓰고 캐시에는 넣지 않음
+        long before = generation.get();
+        List<UserCard> loaded = userRepository.findCardsByIds(missing);
+        synchronized (this) {
+            boolean fresh = generation.get() == before;
+            for (UserCard card : loaded) {
+                result.put(card.id(), card);
+                if (fresh) {
+                    cards.put(card.id(), card);
+                }
+            }
+        }
+        return result;
+    }
+
+    public void evict(Long userId) {
+        synchronized (this) {
+            generation.incrementAndGet();
+            cards.remove(userId);
+        }
+    }
+}
@@ -0,0 +1,496 @@
+package com.example.devso.service;
+
+import com.example.devso.dto.response.UserResponse;
+import com.example.devso.util.SortedInts;
+import com.example.devso.util.TopK;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 유저 검색(멘션 자동완성)용 인메모리 인덱스
+ * - 트라이: username / name(전체, 띄어쓰기 제거, 단어별)의 접두어 검색
+ * - n-gram(1글자/2글자): 중간 일치 검색, 한글은 음절 단위로 그대로 매칭
+ * - 결과는 접두어 일치 우선, 그다음 팔로워 수 내림차순 상위 K명
+ * - 시작 시 / 매일 새벽 DB에서 구성, 이후 가입/프로필 변경 커밋 시점에 갱신
+ *   - 일괄 구성은 키별 버퍼에 모은 뒤 한 번씩 정렬 (copy-on-write 삽입은 실시간 변경에만)
+ * - 후보가 POPULAR_THRESHOLD명을 넘는 키(짧은 접두어 / 흔한 글자)는 구성 시점 팔로워 수 상위
+ *   POPULAR_SIZE명만 따로 두고 검색은 그 안에서만 (한 글자 검색이 전체 유저를 훑지 않도록)
+ */
+@Slf4j
+@Component
+public class UserSearchIndex {
+
+    // 트라이는 이 깊이까지만 만들고, 더 긴 검색어는 해당 노드 후보를 문자열로 재확인
+    private static final int MAX_TRIE_DEPTH = 12;
+    private static final int POPULAR_THRESHOLD = 1024;
+    private static final int POPULAR_SIZE = 256;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FollowGraph followGraph;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 구성은 한 번에 하나만
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private Map<Integer, Entry> entries = new HashMap<>();
+    private TrieNode root = new TrieNode();
+    private Map<Long, int[]> grams = new HashMap<>();
+    // 후보가 많은 n-gram의 팔로워 수 상위 유저 (ID 오름차순)
+    private Map<Long, int[]> popularGrams = new HashMap<>();
+    private volatile boolean ready;
+    // 구성 중에 들어온 변경 (userId -> 최신 값, 삭제는 null), 구성 결과에 다시 적용
+    private Map<Integer, Entry> pendingDuringRebuild;
+
+    public UserSearchIndex(JdbcTemplate jdbcTemplate, FollowGraph followGraph) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.followGraph = followGraph;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // 팔로워 수가 바뀐 만큼 인기 후보 목록 갱신
+    @Scheduled(cron = "0 0 5 * * ?", zone = "Asia/Seoul")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            doRebuild();
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private void doRebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Integer, Entry> newEntries = new HashMap<>();
+        TrieNode newRoot = new TrieNode();
+        Map<Long, Postings> gramBuffers = new HashMap<>();
+        try {
+            jdbcTemplate.query("""
+                    SELECT u.id, u.username, u.name, u.profile_image_url, COALESCE(s.follower_count, 0)
+                    FROM users u
+                    LEFT JOIN user_stats s ON s.user_id = u.id
+                    WHERE u.deleted_at IS NULL
+                    """, (RowCallbackHandler) rs -> {
+                Entry entry = new Entry((int) rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getLong(5));
+                newEntries.put(entry.id, entry);
+                collect(newRoot, gramBuffers, entry);
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("[UserSearchIndex] 구성 실패: {}", e.getMessage());
+            return;
+        }
+
+        // 키별로 한 번씩 정렬
+        Map<Long, int[]> newGrams = new HashMap<>();
+        Map<Long, int[]> newPopularGrams = new HashMap<>();
+        gramBuffers.forEach((key, buffer) -> {
+            int[] ids = buffer.toSortedArray();
+            newGrams.put(key, ids);
+            if (ids.length > POPULAR_THRESHOLD) {
+                newPopularGrams.put(key, popular(ids, newEntries));
+            }
+        });
+        newRoot.finish(newEntries);
+
+        lock.writeLock().lock();
+        try {
+            entries = newEntries;
+            root = newRoot;
+            grams = newGrams;
+            popularGrams = newPopularGrams;
+            pendingDuringRebuild.forEach((id, entry) -> {
+                Entry old = entries.remove(id);
+                if (old != null) {
+                    index(old, false);
+                }
+                if (entry != null) {
+                    entries.put(id, entry);
+                    index(entry, true);
+                }
+            });
+            pendingDuringRebuild = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[UserSearchIndex] 구성 완료 - users: {}, grams: {}", newEntries.size(), newGrams.size());
+    }
+
+    // 가입 / 프로필 변경 시 호출 (커밋 이후)
+    public void upsert(Long userId, String username, String name, String profileImageUrl) {
+        lock.writeLock().lock();
+        try {
+            Entry old = entries.remove(userId.intValue());
+            long followerCount = 0;
+            if (old != null) {
+                index(old, false);
+                followerCount = old.baseFollowerCount;
+            }
+            Entry entry = new Entry(userId.intValue(), username, name, profileImageUrl, followerCount);
+            entries.put(entry.id, entry);
+            index(entry, true);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.put(entry.id, entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long userId) {
+        lock.writeLock().lock();
+        try {
+            Entry old = entries.remove(userId.intValue());
+            if (old != null) {
+                index(old, false);
+            }
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.put(userId.intValue(), null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<UserResponse> search(String query, Long excludeUserId, int limit) {
+        String q = normalize(query);
+        if (q.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int exclude = excludeUserId == null ? -1 : excludeUserId.intValue();
+
+        lock.readLock().lock();
+        try {
+            // 접두어 후보
+            int[] prefixIds = SortedInts.EMPTY;
+            TrieNode node = root;
+            for (int i = 0; i < q.length() && i < MAX_TRIE_DEPTH && node != null; i++) {
+                node = node.child(q.charAt(i));
+            }
+            if (node != null) {
+                prefixIds = candidates(node.postings, node.popular);
+            }
+
+            // 중간 일치 후보 (n-gram 교집합, 키 하나로 끝나는 짧은 검색어는 인기 후보만)
+            int[] infixIds;
+            if (q.length() <= 2) {
+                long key = q.length() == 1 ? gramKey(q.charAt(0)) : gramKey(q.charAt(0), q.charAt(1));
+                infixIds = candidates(grams.getOrDefault(key, SortedInts.EMPTY), popularGrams.get(key));
+            } else {
+                infixIds = null;
+                for (int i = 0; i + 1 < q.length(); i++) {
+                    int[] postings = grams.getOrDefault(gramKey(q.charAt(i), q.charAt(i + 1)), SortedInts.EMPTY);
+                    infixIds = infixIds == null ? postings : SortedInts.intersect(infixIds, postings);
+                    if (infixIds.length == 0) {
+                        break;
+                    }
+                }
+            }
+
+            PriorityQueue<Ranked> top = new PriorityQueue<>(Comparator.comparingLong(Ranked::rank));
+            for (int id : prefixIds) {
+                Entry entry = entries.get(id);
+                if (id != exclude && entry != null && (q.length() <= MAX_TRIE_DEPTH || entry.startsWith(q))) {
+                    offer(top, new Ranked(entry, (1L << 40) + followerCount(entry)), limit);
+                }
+            }
+            for (int id : infixIds) {
+                Entry entry = entries.get(id);
+                if (id != exclude && entry != null && !entry.startsWith(q) && entry.contains(q)) {
+                    offer(top, new Ranked(entry, followerCount(entry)), limit);
+                }
+            }
+
+            List<Ranked> ranked = new ArrayList<>(top);
+            ranked.sort(Comparator.comparingLong(Ranked::rank).reversed()
+                    .thenComparing(r -> r.entry.username));
+            return ranked.stream()
+                    .map(r -> UserResponse.builder()
+                            .id((long) r.entry.id)
+                            .username(r.entry.username)
+                            .name(r.entry.name)
+                            .profileImageUrl(r.entry.profileImageUrl)
+                            .build())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int[] candidates(int[] postings, int[] popular) {
+        return popular != null && postings.length > POPULAR_THRESHOLD ? popular : postings;
+    }
+
+    // 구성 시점 팔로워 수 상위 POPULAR_SIZE명 (ID 오름차순)
+    private static int[] popular(int[] ids, Map<Integer, Entry> entries) {
+        TopK top = new TopK(POPULAR_SIZE);
+        for (int id : ids) {
+            top.offer((int) Math.min(Integer.MAX_VALUE, entries.get(id).baseFollowerCount), id);
+        }
+        int[] result = new int[top.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = top.id(i);
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    private long followerCount(Entry entry) {
+        return followGraph.isReady() ? followGraph.followerCount(entry.id) : entry.baseFollowerCount;
+    }
+
+    private static void offer(PriorityQueue<Ranked> top, Ranked candidate, int limit) {
+        if (top.size() < limit) {
+            top.add(candidate);
+        } else if (candidate.rank > top.peek().rank) {
+            top.poll();
+            top.add(candidate);
+        }
+    }
+
+    // 일괄 구성: 키별 버퍼에 추가만 (정렬은 끝난 뒤 한 번)
+    private static void collect(TrieNode root, Map<Long, Postings> gramBuffers, Entry entry) {
+        for (String term : entry.terms) {
+            TrieNode node = root;
+            for (int i = 0; i < term.length() && i < MAX_TRIE_DEPTH; i++) {
+                node = node.childOrCreate(term.charAt(i));
+                if (node.building == null) {
+                    node.building = new Postings();
+                }
+                node.building.add(entry.id);
+            }
+        }
+        for (Long key : gramKeys(entry)) {
+            gramBuffers.computeIfAbsent(key, k -> new Postings()).add(entry.id);
+        }
+    }
+
+    // 실시간 변경: 엔트리의 모든 검색어를 트라이/n-gram에 추가(add=true) 또는 제거 (write lock 안에서, copy-on-write)
+    private void index(Entry entry, boolean add) {
+        for (String term : entry.terms) {
+            TrieNode node = root;
+            for (int i = 0; i < term.length() && i < MAX_TRIE_DEPTH; i++) {
+                node = add ? node.childOrCreate(term.charAt(i)) : node.child(term.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                node.postings = update(node.postings, entry.id, add);
+                if (node.popular != null) {
+                    node.popular = updatePopular(node.popular, entry.id, add);
+                }
+            }
+        }
+        for (Long key : gramKeys(entry)) {
+            int[] updated = update(grams.getOrDefault(key, SortedInts.EMPTY), entry.id, add);
+            if (updated.length == 0) {
+                grams.remove(key);
+                popularGrams.remove(key);
+            } else {
+                grams.put(key, updated);
+                int[] popular = popularGrams.get(key);
+                if (popular != null) {
+                    popularGrams.put(key, updatePopular(popular, entry.id, add));
+                }
+            }
+        }
+    }
+
+    private static int[] update(int[] postings, int id, boolean add) {
+        return add ? SortedInts.insert(postings, id) : SortedInts.remove(postings, id);
+    }
+
+    // 인기 후보는 다음 구성 전까지 빈자리가 있을 때만 채움 (수정으로 빠졌다 다시 들어오는 경우 포함)
+    private static int[] updatePopular(int[] popular, int id, boolean add) {
+        if (!add) {
+            return SortedInts.remove(popular, id);
+        }
+        return popular.length < POPULAR_SIZE ? SortedInts.insert(popular, id) : popular;
+    }
+
+    private static Set<Long> gramKeys(Entry entry) {
+        Set<Long> keys = new LinkedHashSet<>();
+        for (String term : entry.terms) {
+            for (int i = 0; i < term.length(); i++) {
+                keys.add(gramKey(term.charAt(i)));
+                if (i + 1 < term.length()) {
+                    keys.add(gramKey(term.charAt(i), term.charAt(i + 1)));
+                }
+            }
+        }
+        return keys;
+    }
+
+    private static long gramKey(char c) {
+        return c;
+    }
+
+    private static long gramKey(char c1, char c2) {
+        return (1L << 32) | ((long) c1 << 16) | c2;
+    }
+
+    // 소문자 + 공백 제거 ("홍 길" -> "홍길")
+    private static String normalize(String s) {
+        if (s == null) {
+            return "";
+        }
+        return s.strip().toLowerCase(Locale.ROOT).replaceAll("\\s+", "");
+    }
+
+    private record Ranked(Entry entry, long rank) {
+    }
+
+    private static final class Entry {
+        private final int id;
+        private final String username;
+        private final String name;
+        private final String profileImageUrl;
+        private final long baseFollowerCount;
+        private final String[] terms;
+
+        Entry(int id, String username, String name, String profileImageUrl, long baseFollowerCount) {
+            this.id = id;
+            this.username = username;
+            this.name = name;
+            this.profileImageUrl = profileImageUrl;
+            this.baseFollowerCount = baseFollowerCount;
+
+            Set<String> t = new LinkedHashSet<>();
+            t.add(normalize(username));
+            if (name != null) {
+                t.add(normalize(name));
+                for (String word : name.strip().split("\\s+")) {
+                    t.add(normalize(word));
+                }
+            }
+            t.remove("");
+            this.terms = t.toArray(String[]::new);
+        }
+
+        boolean startsWith(String q) {
+            for (String term : terms) {
+                if (term.startsWith(q)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean contains(String q) {
+            for (String term : terms) {
+                if (term.contains(q)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    // 일괄 구성용 가변 버퍼 (중복 / 순서는 toSortedArray에서 정리)
+    private static final class Postings {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        int[] toSortedArray() {
+            return SortedInts.sortDistinct(ids, size);
+        }
+    }
+
+    // 자식은 정렬된 char[] + 배열로 보관 (HashMap 노드보다 작음)
+    private static final class TrieNode {
+        private char[] keys = new char[0];
+        private TrieNode[] children = new TrieNode[0];
+        private int[] postings = SortedInts.EMPTY;
+        // 후보가 많은 노드만 (ID 오름차순)
+        private int[] popular;
+        // 일괄 구성 중에만 사용
+        private Postings building;
+
+        // 일괄 구성 마무리: 버퍼를 정렬 배열로 바꾸고 인기 후보 계산
+        void finish(Map<Integer, Entry> entries) {
+            if (building != null) {
+                postings = building.toSortedArray();
+                building = null;
+                if (postings.length > POPULAR_THRESHOLD) {
+                    popular = popular(postings, entries);
+                }
+            }
+            for (TrieNode child : children) {
+                child.finish(entries);
+            }
+        }
+
+        TrieNode child(char c) {
+            int pos = Arrays.binarySearch(keys, c);
+            return pos >= 0 ? children[pos] : null;
+        }
+
+        TrieNode childOrCreate(char c) {
+            int pos = Arrays.binarySearch(keys, c);
+            if (pos >= 0) {
+                return children[pos];
+            }
+            int at = -pos - 1;
+            char[] newKeys = new char[keys.length + 1];
+            TrieNode[] newChildren = new TrieNode[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            newKeys[at] = c;
+            newChildren[at] = new TrieNode();
+            System.arraycopy(keys, at, newKeys, at + 1, keys.length - at);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[at];
+        }
+    }
+}
@@ -6,17 +6,31 @@ import com.example.devso.dto.request.UserUpdateRequest;
 import com.example.devso.dto.response.UserProfileResponse;
 import com.example.devso.dto.response.UserResponse;
 import com.example.devso.entity.*;
+import com.example.devso.repository.AccountDeletionTaskRepository;
 import com.example.devso.repository.FollowRepository;
 import com.example.devso.repository.UserRepository;
+import com.example.devso.security.TokenVersionRegistry;
+import com.example.devso.security.VerifiedTokenCache;
+import com.example.devso.service.recruit.RecruitRecommendationService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.engine.jdbc.Size;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.example.devso.util.TransactionHooks;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects; // ✅ NullPointerException 방지를 위해 추가
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,25 +39,57 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final FollowRepository followRepository;
+    private final UserStatsService userStatsService;
+    private final FollowGraph followGraph;
+    private final UserSearchIndex userSearchIndex;
+    private final ProfileCache profileCache;
+    private final IdentityAvailabilityFilter identityAvailabilityFilter;
+    private final AccountDeletionTaskRepository accountDeletionTaskRepository;
+    private final UserCardCache userCardCache;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final RecruitRecommendationService recruitRecommendationService;
+    private final TransactionTemplate transactionTemplate;
+    private final ContributorLeaderboard contributorLeaderboard;
 
     /**
-     * 프로필 조회 (팔로우 카운트 및 팔로우 여부 포함)
+     * 프로필 조회 (ProfileCache 집계 + 조회자별 팔로우 여부)
      */
     public UserProfileResponse getUserProfileByUsername(String targetUsername, Long currentUserId) {
-        User targetUser = userRepository.findByUsername(targetUsername)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
-
-        long followerCount = followRepository.countByFollowingId(targetUser.getId());
-        long followingCount = followRepository.countByFollowerId(targetUser.getId());
+        // 캐시에 username -> id 매핑이 있으면 users 조회 없이 바로 캐시 확인
+        Long cachedId = profileCache.findUserId(targetUsername);
+        Long targetId;
+        UserProfileResponse profile;
+        if (cachedId != null) {
+            targetId = cachedId;
+            profile = profileCache.get(cachedId, () -> loadProfile(
+                    userRepository.findById(cachedId)
+                            .filter(user -> !user.isDeleted())
+                            .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."))));
+        } else {
+            User targetUser = userRepository.findByUsername(targetUsername)
+                    .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+            targetId = targetUser.getId();
+            profile = profileCache.get(targetId, () -> loadProfile(targetUser));
+        }
 
         boolean isFollowing = false;
         if (currentUserId != null) {
-            isFollowing = followRepository.existsByFollowerIdAndFollowingId(currentUserId, targetUser.getId());
+            isFollowing = followGraph.isReady()
+                    ? followGraph.follows(currentUserId, targetId)
+                    : followRepository.existsByFollowerIdAndFollowingId(currentUserId, targetId);
         }
 
-        return UserProfileResponse.from(targetUser, followerCount, followingCount, isFollowing);
+        return profile.toBuilder()
+                .isFollowing(isFollowing)
+                .build();
+    }
+
+    // 캐시에 저장할 공용 프로필 (viewer별 값인 isFollowing 제외)
+    private UserProfileResponse loadProfile(User user) {
+        return UserProfileResponse.from(user, userStatsService.get(user.getId()), false);
     }
 
     /**
@@ -62,42 +108,63 @@ public class UserService {
                 request.getPhone(),
                 request.getEmail()
         );
+        reindexAfterCommit(user);
 
-        // 하위 리스트 업데이트 로직
-        if (request.getCareers() != null || request.getCareers().size() != 0) {
-            List<Career> newCareers = request.getCareers().stream()
-                    .map(dto -> dto.toEntity(user))
-                    .toList();
-            user.updateCareers(newCareers);
+        // 하위 리스트: null이면 변경 없음, 그 외에는 기존 항목과 비교해 변경분만 반영
+        if (request.getCareers() != null) {
+            mergeChildren(user.getCareers(), request.getCareers(), Career::getId, user);
         }
-
-        if (request.getEducations() != null || request.getEducations().size() != 0) {
-            List<Education> newEducations = request.getEducations().stream()
-                    .map(dto -> dto.toEntity(user))
-                    .toList();
-            user.updateEducations(newEducations);
+        if (request.getEducations() != null) {
+            mergeChildren(user.getEducations(), request.getEducations(), Education::getId, user);
         }
-
-        if (request.getActivities() != null || request.getActivities().size() != 0) {
-            List<Activity> newActivities = request.getActivities().stream()
-                    .map(dto -> dto.toEntity(user))
-                    .toList();
-            user.updateActivities(newActivities);
+        if (request.getActivities() != null) {
+            mergeChildren(user.getActivities(), request.getActivities(), Activity::getId, user);
+        }
+        if (request.getCertis() != null) {
+            mergeChildren(user.getCertis(), request.getCertis(), Certi::getId, user);
+        }
+        if (request.getSkills() != null) {
+            mergeChildren(user.getSkills(), request.getSkills(), Skill::getId, user);
+            recruitRecommendationService.onSkillsChanged(user.getId(), user.getSkills());
         }
+    }
 
-        if (request.getCertis() != null || request.getCertis().size() != 0) {
-            List<Certi> newCerti = request.getCertis().stream()
-                    .map(dto -> dto.toEntity(user))
-                    .toList();
-            user.updateCertis(newCerti);
+    /**
+     * 이력 목록 diff 반영
+     * 1) id가 일치하는 기존 항목 -> 값만 갱신 (같은 값이면 UPDATE 없음)
+     * 2) id가 없으면 내용이 같은 기존 항목과 매칭 -> 변경 없음
+     * 3) 매칭되지 않은 요청 -> INSERT, 요청에 없는 기존 항목 -> orphanRemoval로 DELETE
+     */
+    private <E, D extends ProfileUpdateRequest.ChildUpdateDto<E>> void mergeChildren(
+            List<E> current, List<D> requested, Function<E, Long> idOf, User user) {
+        Map<Long, E> byId = new HashMap<>();
+        for (E entity : current) {
+            byId.put(idOf.apply(entity), entity);
         }
 
-        if (request.getSkills() != null || request.getSkills().size() != 0) {
-            List<Skill> newSkill = request.getSkills().stream()
-                    .map(dto -> dto.toEntity(user))
-                    .toList();
-            user.updateSkills(newSkill);
+        Set<E> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<E> added = new ArrayList<>();
+        for (D dto : requested) {
+            E matched = dto.getId() != null ? byId.get(dto.getId()) : null;
+            if (matched != null && !kept.contains(matched)) {
+                dto.applyTo(matched);
+                kept.add(matched);
+                continue;
+            }
+
+            matched = current.stream()
+                    .filter(entity -> !kept.contains(entity) && dto.isSameAs(entity))
+                    .findFirst()
+                    .orElse(null);
+            if (matched != null) {
+                kept.add(matched);
+            } else {
+                added.add(dto.toEntity(user));
+            }
         }
+
+        current.removeIf(entity -> !kept.contains(entity));
+        current.addAll(added);
     }
 
     /**
@@ -120,40 +187,101 @@ public class UserService {
                 request.getPhone(),
                 request.getEmail()
         );
+        reindexAfterCommit(user);
 
-        long followerCount = followRepository.countByFollowingId(user.getId());
-        long followingCount = followRepository.countByFollowerId(user.getId());
-
-        return UserProfileResponse.from(user, followerCount, followingCount, false);
+        return UserProfileResponse.from(user, userStatsService.get(user.getId()), false);
     }
 
-    @Transactional
+    // BCrypt 비교/해시 동안 DB 커넥션을 잡지 않도록 해시가 끝난 뒤 변경만 트랜잭션으로
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(String username, PasswordChangeRequest request) {
-        User user = userRepository.findByUsername(username)
+        User found = userRepository.findByUsername(username)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
 
-        if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPassword())) {
-            throw new IllegalArgumentException("현재 비밀번호가 일치하지 않습니다.");
-        }
-
         String newPassword = request.getNewPassword();
         if (newPassword == null || newPassword.trim().isEmpty()) {
             throw new IllegalArgumentException("새로운 비밀번호를 입력해야 합니다.");
         }
 
-        String newEncodedPassword = passwordEncoder.encode(newPassword);
-        user.updatePassword(newEncodedPassword);
+        String currentHash = found.getPassword();
+        if (!passwordHashingService.matches(request.getCurrentPassword(), currentHash)) {
+            throw new IllegalArgumentException("현재 비밀번호가 일치하지 않습니다.");
+        }
+        String newEncodedPassword = passwordHashingService.encode(newPassword);
+
+        Long userId = found.getId();
+        transactionTemplate.executeWithoutResult(status -> {
+            // 조건부 UPDATE: 해시하는 사이에 다른 요청이 비밀번호를 바꿨으면 확인한 현재 비밀번호가 더 이상 유효하지 않음
+            // (OSIV 영속성 컨텍스트의 엔티티는 오래된 값일 수 있어 DB에서 직접 비교)
+            // 기존에 발급된 토큰은 모두 폐기 (다시 로그인 필요)
+            if (userRepository.changePasswordIfUnchanged(userId, currentHash, newEncodedPassword) == 0) {
+                throw new IllegalArgumentException("현재 비밀번호가 일치하지 않습니다.");
+            }
+            int tokenVersion = userRepository.findTokenVersion(userId);
+            TransactionHooks.afterCommit(() -> {
+                tokenVersionRegistry.update(userId, tokenVersion);
+                verifiedTokenCache.evictUser(userId);
+            });
+        });
+    }
+
+    /**
+     * 회원 탈퇴: 유저만 즉시 soft delete 하고, 게시물/댓글/좋아요/팔로우 등은
+     * AccountDeletionJob이 청크 단위로 나눠서 정리 (한 트랜잭션에서 여러 테이블을 잠그지 않도록)
+     */
+    @Transactional
+    public void deleteAccount(Long userId) {
+        User user = userRepository.findById(userId)
+                .filter(u -> !u.isDeleted())
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+
+        user.markDeleted();
+        user.bumpTokenVersion();
+        if (accountDeletionTaskRepository.countByUserId(userId) == 0) {
+            accountDeletionTaskRepository.save(AccountDeletionTask.of(user));
+        }
+
+        // 검색/프로필/리더보드에서는 바로 사라지도록 (username은 유니크 제약이 남으므로 identity filter는 유지)
+        String username = user.getUsername();
+        TransactionHooks.afterCommit(() -> {
+            userSearchIndex.remove(userId);
+            profileCache.evict(userId, username);
+            userCardCache.evict(userId);
+            tokenVersionRegistry.revoke(userId);
+            verifiedTokenCache.evictUser(userId);
+            contributorLeaderboard.onUserDeleted(userId);
+        });
     }
 
-    public List<UserResponse> searchUsers(String query, Long excludeUserId) {
-        List<User> users = userRepository.searchUsers(query, excludeUserId);
+    public List<UserResponse> searchUsers(String query, Long excludeUserId, int size) {
+        int limit = Math.max(1, Math.min(size, 50));
+        if (userSearchIndex.isReady()) {
+            return userSearchIndex.search(query, excludeUserId, limit);
+        }
+
+        List<User> users = userRepository.searchUsers(query, excludeUserId, PageRequest.of(0, limit));
         return users.stream()
                 .map(UserResponse::from)
                 .collect(Collectors.toList());
     }
 
     public boolean checkEmail(String email, long userId) {
-        int count = userRepository.existsByEmail(email, userId);
-        return count == 0 ? false : true;
+        // Bloom filter에 없으면 DB 조회 없이 사용 가능
+        return identityAvailabilityFilter.isEmailTaken(email, userId);
+    }
+
+    // 이름/프로필 이미지/이메일이 바뀌었을 수 있으므로 검색 인덱스, 이메일 filter 갱신 + 프로필/작성자 요약 캐시 무효화
+    private void reindexAfterCommit(User user) {
+        Long id = user.getId();
+        TransactionHooks.afterCommit(() -> {
+            profileCache.evict(id);
+            userCardCache.evict(id);
+        });
+        String username = user.getUsername();
+        String email = user.getEmail();
+        TransactionHooks.afterCommit(() -> identityAvailabilityFilter.add(username, email));
+        String name = user.getName();
+        String profileImageUrl = user.getProfileImageUrl();
+        TransactionHooks.afterCommit(() -> userSearchIndex.upsert(id, username, name, profileImageUrl));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,64 @@
+package com.example.devso.service;
+
+import com.example.devso.dto.response.UserProfileResponse;
+import com.example.devso.entity.UserStats;
+import com.example.devso.repository.UserStatsRepository;
+import com.example.devso.util.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * 유저 집계 카운터 조회/갱신
+ * - 갱신 메서드는 호출한 쪽(팔로우/게시물/좋아요) 트랜잭션에 참여하므로 원본 쓰기와 함께 커밋/롤백됨
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserStatsService {
+
+    private final UserStatsRepository userStatsRepository;
+    private final ProfileCache profileCache;
+
+    public UserStats get(Long userId) {
+        return userStatsRepository.findById(userId)
+                .orElseGet(() -> UserStats.empty(userId));
+    }
+
+    // 팔로우(+1) / 언팔로우(-1)
+    @Transactional
+    public void onFollowChanged(Long followerId, Long followingId, long delta) {
+        updateProfileAfterCommit(followerId, p -> p.toBuilder().followingCount(p.getFollowingCount() + delta).build());
+        updateProfileAfterCommit(followingId, p -> p.toBuilder().followerCount(p.getFollowerCount() + delta).build());
+        // 서로 맞팔로우하는 요청이 동시에 들어와도 데드락이 나지 않도록 항상 ID 오름차순으로 잠금
+        if (followerId < followingId) {
+            userStatsRepository.addFollowingCount(followerId, delta);
+            userStatsRepository.addFollowerCount(followingId, delta);
+        } else {
+            userStatsRepository.addFollowerCount(followingId, delta);
+            userStatsRepository.addFollowingCount(followerId, delta);
+        }
+    }
+
+    @Transactional
+    public void onPostCountChanged(Long userId, long delta) {
+        updateProfileAfterCommit(userId, p -> p.toBuilder().postCount(p.getPostCount() + delta).build());
+        userStatsRepository.addPostCount(userId, delta);
+    }
+
+    @Transactional
+    public void onLikesReceivedChanged(Long postOwnerId, long delta) {
+        if (delta != 0) {
+            updateProfileAfterCommit(postOwnerId, p -> p.toBuilder().likesReceived(p.getLikesReceived() + delta).build());
+            userStatsRepository.addLikesReceived(postOwnerId, delta);
+        }
+    }
+
+    // 카운트 쓰기 전에 호출: 커밋 이후 캐시된 프로필에 같은 증감분 반영 (무효화하지 않음)
+    private void updateProfileAfterCommit(Long userId, UnaryOperator<UserProfileResponse> change) {
+        long version = profileCache.beginChange(userId);
+        TransactionHooks.afterCommit(() -> profileCache.applyChange(userId, version, change));
+    }
+}
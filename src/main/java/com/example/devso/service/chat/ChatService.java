@@ -1,12 +1,16 @@
 package com.example.devso.service.chat;
 
+import com.example.devso.dto.response.UserCard;
 import com.example.devso.dto.response.chat.ChatMessageResponse;
+import com.example.devso.dto.response.chat.ChatRoomListResponse;
 import com.example.devso.entity.chat.ChatMessage;
 import com.example.devso.entity.chat.ChatRoom;
 import com.example.devso.entity.chat.ChatRoomMember;
 import com.example.devso.repository.chat.ChatMessageRepository;
 import com.example.devso.repository.chat.ChatRoomMemberRepository;
+import com.example.devso.repository.chat.ChatRoomListProjection;
 import com.example.devso.repository.chat.ChatRoomRepository;
+import com.example.devso.service.UserCardCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -15,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +29,22 @@ public class ChatService {
     private final ChatRoomRepository chatRoomRepository;
     private final ChatRoomMemberRepository chatRoomMemberRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final UserCardCache userCardCache;
+
+    /**
+     * 내 채팅방 목록 (상대 정보는 users 조인 대신 UserCardCache에서 채움)
+     */
+    public List<ChatRoomListResponse> getMyRooms(Long userId) {
+        List<ChatRoomListProjection> rooms = chatRoomRepository.findAllChatRoomsByUserId(userId);
+        Map<Long, UserCard> opponents = userCardCache.getAll(
+                rooms.stream().map(ChatRoomListProjection::getOpponentId).toList());
+
+        // 상대 유저 row가 없는 방은 기존(INNER JOIN)과 같이 제외
+        return rooms.stream()
+                .filter(room -> opponents.containsKey(room.getOpponentId()))
+                .map(room -> ChatRoomListResponse.of(room, opponents.get(room.getOpponentId())))
+                .toList();
+    }
 
     /**
      * 1:1 채팅방 생성 (이미 있다면 기존 방 ID 반환)
@@ -53,8 +74,11 @@ public class ChatService {
 
     @Transactional
     public ChatMessage saveMessage(Long roomId, Long senderId, String text) {
-        ChatRoom room = chatRoomRepository.findById(roomId)
-                .orElseThrow(() -> new IllegalArgumentException("방이 존재하지 않습니다."));
+        // 방 조회 대신 참여 여부만 확인 (인덱스 idx_room_user), 방은 FK만 필요하므로 프록시로 연결
+        if (chatRoomMemberRepository.existsByChatRoomIdAndUserId(roomId, senderId) != 1) {
+            throw new IllegalArgumentException("방이 존재하지 않거나 참여하지 않은 방입니다.");
+        }
+        ChatRoom room = chatRoomRepository.getReferenceById(roomId);
 
         ChatMessage message = ChatMessage.builder()
                 .chatRoom(room)
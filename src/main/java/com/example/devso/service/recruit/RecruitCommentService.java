@@ -1,6 +1,7 @@
 package com.example.devso.service.recruit;
 
 import com.example.devso.dto.request.recruit.RecruitCommentRequest;
+import com.example.devso.dto.response.UserCard;
 import com.example.devso.dto.response.recruit.RecruitCommentResponse;
 import com.example.devso.entity.User;
 import com.example.devso.entity.recruit.Recruit;
@@ -10,11 +11,13 @@ import com.example.devso.exception.ErrorCode;
 import com.example.devso.repository.UserRepository;
 import com.example.devso.repository.recruit.RecruitCommentRepository;
 import com.example.devso.repository.recruit.RecruitRepository;
+import com.example.devso.service.UserCardCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Transactional(readOnly = true)
@@ -23,6 +26,7 @@ public class RecruitCommentService {
     private final RecruitCommentRepository recruitCommentRepository;
     private final RecruitRepository recruitRepository;
     private final UserRepository userRepository;
+    private final UserCardCache userCardCache;
 
     // 댓글 및 대댓글 생성
     @Transactional
@@ -50,7 +54,7 @@ public class RecruitCommentService {
         RecruitComment comment = RecruitComment.create(request.getContent(), user, recruit, parent);
         recruitCommentRepository.save(comment);
 
-        recruit.increaseCommentCount();
+        recruitRepository.addCommentCount(recruitId, 1);
         return RecruitCommentResponse.from(comment, userId);
     }
 
@@ -61,13 +65,16 @@ public class RecruitCommentService {
         }
 
         // 전체 댓글을 가져오되, Response DTO 내부의 children 처리 로직에 의해 계층 구조 형성
-        List<RecruitComment> comments = recruitCommentRepository.findByRecruitIdWithUser(recruitId);
+        List<RecruitComment> comments = recruitCommentRepository.findByRecruitIdWithParent(recruitId);
+        // 조회 결과에 대댓글도 포함되어 있으므로 작성자 요약을 한 번에 채움
+        Map<Long, UserCard> authors = userCardCache.getAll(
+                comments.stream().map(comment -> comment.getUser().getId()).toList());
 
         return comments.stream()
                 // 최상위 댓글(부모가 없는 댓글)만 필터링하여 반환 리스트 생성
                 // 자식 댓글들은 최상위 댓글의 children 리스트 안에 자동으로 포함됨
                 .filter(comment -> comment.getParent() == null)
-                .map(comment -> RecruitCommentResponse.from(comment, currentUserId))
+                .map(comment -> RecruitCommentResponse.from(comment, currentUserId, authors))
                 .toList();
     }
 
@@ -97,7 +104,7 @@ public class RecruitCommentService {
 
         // 본인 + 자식 댓글들의 수
         int totalToDelete = 1 + comment.getChildren().size();
-        comment.getRecruit().decreaseCommentCountBy(totalToDelete);
         recruitCommentRepository.delete(comment);
+        recruitRepository.addCommentCount(comment.getRecruit().getId(), -totalToDelete);
     }
 }
\ No newline at end of file
@@ -0,0 +1,336 @@
+package com.example.devso.service.recruit;
+
+import com.example.devso.entity.recruit.RecruitPosition;
+import com.example.devso.entity.recruit.RecruitProgressType;
+import com.example.devso.entity.recruit.RecruitStatus;
+import com.example.devso.entity.recruit.RecruitType;
+import com.example.devso.entity.recruit.TechStack;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 모집글 목록 필터 / 필터값별 개수용 인메모리 비트맵 인덱스
+ * - 필터값(유형 / 진행 방식 / 포지션 / 기술 스택 / 모집 중)마다 모집글 ID 비트맵 1개
+ *   (ID는 AUTO_INCREMENT라 촘촘하므로 BitSet이 곧 모집글당 1비트)
+ * - 필터 조합은 비트맵 AND/OR, 페이지는 ID 내림차순(= 최신순)으로 잘라서 ID만 반환 -> DB는 해당 페이지만 조회
+ * - 필터값별 개수는 해당 항목을 제외한 나머지 필터를 적용한 집합 기준 (다른 값으로 바꿨을 때의 결과 수)
+ * - 검색어 / 내 글 / 북마크 필터는 인덱스에 없음 (목록은 DB 쿼리로 처리)
+ * - 모집 중 = status OPEN (마감일이 지난 글은 RecruitAutoCloseJob이 CLOSED로 바꾸고 close로 반영)
+ * - 시작 시 DB에서 구성, 이후 작성/수정/삭제/마감 커밋 시점에 갱신, 30분마다 재구성
+ */
+@Slf4j
+@Component
+public class RecruitFacetIndex {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 구성은 한 번에 하나만 (동시에 돌면 pendingDuringRebuild를 서로 덮어씀)
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private Map<Integer, Entry> entries = new HashMap<>();
+    private Bitmaps bitmaps = new Bitmaps();
+    private volatile boolean ready;
+    // 구성 중에 들어온 변경 (id -> 최신 값, 삭제는 null), 구성 결과에 다시 적용
+    private Map<Integer, Entry> pendingDuringRebuild;
+
+    public RecruitFacetIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 마스크 채우기(RecruitMaskBackfill) 이후에 구성
+    @Order(10)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // 일괄 변경(탈퇴 정리 등) 누락 대비
+    @Scheduled(cron = "0 0/30 * * * ?", zone = "Asia/Seoul")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("[RecruitFacetIndex] 이미 구성 중이라 건너뜀");
+            return;
+        }
+        try {
+            doRebuild();
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private void doRebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Integer, Entry> newEntries = new HashMap<>();
+        Bitmaps newBitmaps = new Bitmaps();
+        try {
+            jdbcTemplate.query("""
+                    SELECT id, type, progress_type, status, stack_mask, position_mask
+                    FROM recruits
+                    WHERE deleted_at IS NULL
+                    """, (RowCallbackHandler) rs -> {
+                int id = (int) rs.getLong(1);
+                int type = rs.getInt(2);
+                type = rs.wasNull() ? -1 : type;
+                int progress = rs.getInt(3);
+                progress = rs.wasNull() ? -1 : progress;
+                boolean open = rs.getInt(4) == RecruitStatus.OPEN.ordinal() && !rs.wasNull();
+                Entry entry = new Entry(type, progress, open, rs.getLong(5), rs.getLong(6));
+                newEntries.put(id, entry);
+                newBitmaps.set(id, entry, true);
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("[RecruitFacetIndex] 구성 실패: {}", e.getMessage());
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            entries = newEntries;
+            bitmaps = newBitmaps;
+            pendingDuringRebuild.forEach(this::apply);
+            pendingDuringRebuild = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[RecruitFacetIndex] 구성 완료 - recruits: {}", newEntries.size());
+    }
+
+    // 작성 / 수정 / 마감 / 재오픈 시 호출 (커밋 이후)
+    public void upsert(Long recruitId, RecruitType type, RecruitProgressType progressType, RecruitStatus status,
+                       long stackMask, long positionMask) {
+        Entry entry = new Entry(
+                type == null ? -1 : type.ordinal(),
+                progressType == null ? -1 : progressType.ordinal(),
+                status == RecruitStatus.OPEN,
+                stackMask, positionMask);
+        lock.writeLock().lock();
+        try {
+            apply(recruitId.intValue(), entry);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.put(recruitId.intValue(), entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 자동 마감 잡에서 호출 (커밋 이후, 나머지 필터값은 그대로)
+    public void close(List<Long> recruitIds) {
+        lock.writeLock().lock();
+        try {
+            for (Long recruitId : recruitIds) {
+                int id = recruitId.intValue();
+                Entry old = entries.get(id);
+                if (old != null && old.open) {
+                    Entry entry = new Entry(old.type, old.progress, false, old.stackMask, old.positionMask);
+                    apply(id, entry);
+                    if (pendingDuringRebuild != null) {
+                        pendingDuringRebuild.put(id, entry);
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long recruitId) {
+        lock.writeLock().lock();
+        try {
+            apply(recruitId.intValue(), null);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.put(recruitId.intValue(), null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // write lock 안에서만 호출
+    private void apply(int id, Entry entry) {
+        Entry old = entry == null ? entries.remove(id) : entries.put(id, entry);
+        if (old != null) {
+            bitmaps.set(id, old, false);
+        }
+        if (entry != null) {
+            bitmaps.set(id, entry, true);
+        }
+    }
+
+    /**
+     * 조건에 맞는 모집글 ID를 최신순으로 offset부터 size개
+     */
+    public PageResult page(Filter filter, long offset, int size) {
+        lock.readLock().lock();
+        try {
+            BitSet matched = match(filter, null);
+            long total = matched.cardinality();
+            List<Long> ids = new ArrayList<>();
+            long skipped = 0;
+            for (int id = matched.length() - 1; id >= 0 && ids.size() < size; id = matched.previousSetBit(id - 1)) {
+                if (skipped++ >= offset) {
+                    ids.add((long) id);
+                }
+            }
+            return new PageResult(ids, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Facets facets(Filter filter) {
+        lock.readLock().lock();
+        try {
+            Bitmaps b = bitmaps;
+            return new Facets(
+                    match(filter, null).cardinality(),
+                    counts(match(filter, Dimension.TYPE), b.byType),
+                    counts(match(filter, Dimension.PROGRESS), b.byProgress),
+                    counts(match(filter, Dimension.POSITION), b.byPosition),
+                    counts(match(filter, Dimension.STACK), b.byStack));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // read lock 안에서만 호출, skip으로 지정한 항목의 필터는 적용하지 않음
+    private BitSet match(Filter filter, Dimension skip) {
+        Bitmaps b = bitmaps;
+        BitSet result = (BitSet) b.all.clone();
+        if (filter.type() != null && skip != Dimension.TYPE) {
+            result.and(b.byType[filter.type().ordinal()]);
+        }
+        if (filter.progressType() != null && skip != Dimension.PROGRESS) {
+            result.and(b.byProgress[filter.progressType().ordinal()]);
+        }
+        if (filter.positionMask() != 0 && skip != Dimension.POSITION) {
+            result.and(union(b.byPosition, filter.positionMask()));
+        }
+        if (filter.stackMask() != 0 && skip != Dimension.STACK) {
+            result.and(union(b.byStack, filter.stackMask()));
+        }
+        if (filter.onlyOpen()) {
+            result.and(b.open);
+        }
+        return result;
+    }
+
+    // 비트마스크에 포함된 값들의 비트맵 OR (하나라도 일치)
+    private static BitSet union(BitSet[] byValue, long mask) {
+        BitSet union = new BitSet();
+        while (mask != 0) {
+            int ordinal = Long.numberOfTrailingZeros(mask);
+            if (ordinal < byValue.length) {
+                union.or(byValue[ordinal]);
+            }
+            mask &= mask - 1;
+        }
+        return union;
+    }
+
+    private static long[] counts(BitSet base, BitSet[] byValue) {
+        long[] counts = new long[byValue.length];
+        for (int i = 0; i < byValue.length; i++) {
+            if (byValue[i].intersects(base)) {
+                BitSet tmp = (BitSet) byValue[i].clone();
+                tmp.and(base);
+                counts[i] = tmp.cardinality();
+            }
+        }
+        return counts;
+    }
+
+    public record Filter(RecruitType type, RecruitProgressType progressType,
+                         long positionMask, long stackMask, boolean onlyOpen) {
+    }
+
+    public record PageResult(List<Long> ids, long total) {
+    }
+
+    // 필터값별 개수 (배열 인덱스 = enum ordinal)
+    public record Facets(long total, long[] types, long[] progressTypes, long[] positions, long[] stacks) {
+    }
+
+    private enum Dimension {
+        TYPE, PROGRESS, POSITION, STACK
+    }
+
+    private record Entry(int type, int progress, boolean open, long stackMask, long positionMask) {
+    }
+
+    private static final class Bitmaps {
+        private final BitSet all = new BitSet();
+        private final BitSet open = new BitSet();
+        private final BitSet[] byType = newBitSets(RecruitType.values().length);
+        private final BitSet[] byProgress = newBitSets(RecruitProgressType.values().length);
+        private final BitSet[] byPosition = newBitSets(RecruitPosition.values().length);
+        private final BitSet[] byStack = newBitSets(TechStack.values().length);
+
+        void set(int id, Entry entry, boolean value) {
+            all.set(id, value);
+            open.set(id, value && entry.open);
+            if (entry.type >= 0 && entry.type < byType.length) {
+                byType[entry.type].set(id, value);
+            }
+            if (entry.progress >= 0 && entry.progress < byProgress.length) {
+                byProgress[entry.progress].set(id, value);
+            }
+            setMask(byPosition, entry.positionMask, id, value);
+            setMask(byStack, entry.stackMask, id, value);
+        }
+
+        private static void setMask(BitSet[] byValue, long mask, int id, boolean value) {
+            while (mask != 0) {
+                int ordinal = Long.numberOfTrailingZeros(mask);
+                if (ordinal < byValue.length) {
+                    byValue[ordinal].set(id, value);
+                }
+                mask &= mask - 1;
+            }
+        }
+
+        private static BitSet[] newBitSets(int n) {
+            BitSet[] sets = new BitSet[n];
+            for (int i = 0; i < n; i++) {
+                sets[i] = new BitSet();
+            }
+            return sets;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.devso.service.recruit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * recruits.stack_mask / position_mask 채우기
+ * - 컬럼 추가 이전에 작성된 모집글(두 마스크가 모두 0)만 컬렉션 테이블에서 계산
+ * - 이후 작성/수정은 Recruit 엔티티가 직접 유지
+ */
+@Slf4j
+@Component
+public class RecruitMaskBackfill {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RecruitMaskBackfill(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // RecruitFacetIndex 구성보다 먼저
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            int updated = jdbcTemplate.update("""
+                    UPDATE recruits r
+                    SET r.stack_mask = COALESCE((SELECT BIT_OR(1 << rs.stack) FROM recruit_stacks rs
+                                                 WHERE rs.recruit_id = r.id AND rs.stack IS NOT NULL), 0),
+                        r.position_mask = COALESCE((SELECT BIT_OR(1 << rp.position) FROM recruit_positions rp
+                                                    WHERE rp.recruit_id = r.id AND rp.position IS NOT NULL), 0)
+                    WHERE r.stack_mask = 0 AND r.position_mask = 0
+                    """);
+            log.info("[RecruitMaskBackfill] 완료 - recruits: {}", updated);
+        } catch (RuntimeException e) {
+            log.error("[RecruitMaskBackfill] 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.example.devso.service.recruit;
+
+import com.example.devso.entity.Skill;
+import com.example.devso.entity.recruit.Recruit;
+import com.example.devso.entity.recruit.RecruitStatus;
+import com.example.devso.entity.recruit.TechStack;
+import com.example.devso.repository.recruit.RecruitRecommendationRepository;
+import com.example.devso.util.SkillStacks;
+import com.example.devso.util.TopK;
+import com.example.devso.util.TransactionHooks;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모집글 추천 (프로필 스킬 <-> 모집 기술 스택)
+ * - 점수 = 겹치는 스택의 숙련도 가중치 합 * OVERLAP_WEIGHT + 최신 가산점 (작성 후 RECENCY_DAYS일 동안 하루 1점씩 감소)
+ * - 유저별 상위 K개를 recruit_recommendations에 보관하고, 조회는 인덱스 한 번
+ * - 전체 재계산은 RecruitRecommendationJob (매일), 여기서는 변경분만 반영
+ *   - 스킬 변경: 호출한 트랜잭션 안에서 해당 유저만
+ *   - 모집글 변경: 커밋 이후 전용 스레드 1개에서 (요청 트랜잭션을 붙잡지 않음), 스택 가중치가 높은 유저 fanoutLimit명까지만
+ *     (나머지 유저와 대기열이 넘쳐 버린 변경은 다음 날 잡에서 반영)
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class RecruitRecommendationService {
+
+    public static final int OVERLAP_WEIGHT = 10;
+    public static final int RECENCY_DAYS = 30;
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final int IN_CHUNK = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RecruitRecommendationRepository recruitRecommendationRepository;
+    private final int topK;
+    private final int candidateLimit;
+    private final int fanoutLimit;
+    // 모집글 변경 반영용 (스레드 1개라 같은 모집글의 변경은 순서대로 적용)
+    private final ThreadPoolExecutor fanoutExecutor;
+
+    public RecruitRecommendationService(JdbcTemplate jdbcTemplate,
+                                        TransactionTemplate transactionTemplate,
+                                        RecruitRecommendationRepository recruitRecommendationRepository,
+                                        @Value("${recommendation.top-k:30}") int topK,
+                                        @Value("${recommendation.candidate-limit:2000}") int candidateLimit,
+                                        @Value("${recommendation.fanout-limit:5000}") int fanoutLimit,
+                                        @Value("${recommendation.fanout-queue-capacity:1000}") int fanoutQueueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.recruitRecommendationRepository = recruitRecommendationRepository;
+        this.topK = topK;
+        this.candidateLimit = candidateLimit;
+        this.fanoutLimit = fanoutLimit;
+        this.fanoutExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fanoutQueueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "recommendation-fanout");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanoutExecutor.shutdown();
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    public static long today() {
+        return LocalDate.now(ZONE).toEpochDay();
+    }
+
+    public static int score(int overlap, long createdDay, long today) {
+        long age = Math.max(0, today - createdDay);
+        return overlap * OVERLAP_WEIGHT + (int) Math.max(0, RECENCY_DAYS - age);
+    }
+
+    // 스택 ordinal별 가중치에 스킬 하나 반영 (같은 스택이 여러 번 나오면 가장 높은 숙련도)
+    public static void accumulate(int[] weights, String skillName, String level) {
+        TechStack stack = SkillStacks.of(skillName);
+        if (stack != null) {
+            weights[stack.ordinal()] = Math.max(weights[stack.ordinal()], SkillStacks.weightOf(level));
+        }
+    }
+
+    // 모집글 스택 마스크와 겹치는 가중치 합
+    public static int overlap(int[] weights, long stackMask) {
+        int sum = 0;
+        while (stackMask != 0) {
+            int ordinal = Long.numberOfTrailingZeros(stackMask);
+            if (ordinal < weights.length) {
+                sum += weights[ordinal];
+            }
+            stackMask &= stackMask - 1;
+        }
+        return sum;
+    }
+
+    public List<Long> getRecommendedRecruitIds(Long userId, int limit) {
+        return recruitRecommendationRepository.findRecommendedRecruitIds(userId, RecruitStatus.OPEN.ordinal(), limit);
+    }
+
+    /**
+     * 스킬 변경: 스택 가중치 교체 후 이 유저의 추천만 다시 계산
+     * (후보는 스택이 하나라도 겹치는 모집 중인 글 중 최근 candidateLimit개)
+     */
+    @Transactional
+    public void onSkillsChanged(Long userId, Collection<Skill> skills) {
+        int[] weights = new int[TechStack.values().length];
+        for (Skill skill : skills) {
+            accumulate(weights, skill.getName(), skill.getLevel());
+        }
+
+        long mask = 0L;
+        List<Object[]> stackRows = new ArrayList<>();
+        for (int ordinal = 0; ordinal < weights.length; ordinal++) {
+            if (weights[ordinal] > 0) {
+                mask |= 1L << ordinal;
+                stackRows.add(new Object[]{userId, ordinal, weights[ordinal]});
+            }
+        }
+        jdbcTemplate.update("DELETE FROM user_skill_stacks WHERE user_id = ?", userId);
+        if (!stackRows.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO user_skill_stacks (user_id, stack, weight) VALUES (?, ?, ?)", stackRows);
+        }
+
+        jdbcTemplate.update("DELETE FROM recruit_recommendations WHERE user_id = ?", userId);
+        if (mask == 0L) {
+            return;
+        }
+
+        long today = today();
+        TopK top = new TopK(topK);
+        jdbcTemplate.query("""
+                SELECT id, stack_mask, created_at
+                FROM recruits
+                WHERE status = ? AND deleted_at IS NULL AND user_id <> ? AND (stack_mask & ?) <> 0
+                ORDER BY id DESC
+                LIMIT ?
+                """, (RowCallbackHandler) rs -> {
+            Timestamp createdAt = rs.getTimestamp(3);
+            long createdDay = createdAt == null ? today - RECENCY_DAYS : createdAt.toLocalDateTime().toLocalDate().toEpochDay();
+            top.offer(score(overlap(weights, rs.getLong(2)), createdDay, today), (int) rs.getLong(1));
+        }, RecruitStatus.OPEN.ordinal(), userId, mask, candidateLimit);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < top.size(); i++) {
+            rows.add(new Object[]{userId, (long) top.id(i), top.score(i), now});
+        }
+        insertRecommendations(rows);
+    }
+
+    /**
+     * 모집글 작성 / 수정 / 상태 변경: 커밋 이후 별도 스레드에서 반영 (엔티티는 넘기지 않고 값만 복사)
+     */
+    public void onRecruitChanged(Recruit recruit) {
+        Long recruitId = recruit.getId();
+        boolean open = recruit.getStatus() == RecruitStatus.OPEN;
+        long mask = recruit.getStackMask();
+        Long ownerId = recruit.getUser().getId();
+        LocalDateTime createdAt = recruit.getCreatedAt();
+        TransactionHooks.afterCommit(() -> {
+            try {
+                fanoutExecutor.execute(() -> {
+                    try {
+                        transactionTemplate.executeWithoutResult(status ->
+                                applyRecruitChange(recruitId, open, mask, ownerId, createdAt));
+                    } catch (RuntimeException e) {
+                        log.error("[RecruitRecommendation] 모집글 변경 반영 실패 - recruitId: {}, {}", recruitId, e.getMessage());
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                log.warn("[RecruitRecommendation] 대기열 초과로 다음 재계산에 맡김 - recruitId: {}", recruitId);
+            }
+        });
+    }
+
+    // 기존 추천에서 빼고, 모집 중이면 스택이 겹치는 유저의 상위 K에 들어갈 때만 추가
+    private void applyRecruitChange(Long recruitId, boolean open, long mask, Long ownerId, LocalDateTime createdAt) {
+        jdbcTemplate.update("DELETE FROM recruit_recommendations WHERE recruit_id = ?", recruitId);
+        if (!open || mask == 0L) {
+            return;
+        }
+
+        // 스택이 겹치는 유저별 가중치 합 (idx_user_skill_stack_stack)
+        List<Object> args = new ArrayList<>();
+        for (long m = mask; m != 0; m &= m - 1) {
+            args.add(Long.numberOfTrailingZeros(m));
+        }
+        String placeholders = String.join(", ", Collections.nCopies(args.size(), "?"));
+        args.add(ownerId);
+        args.add(fanoutLimit);
+        // 가중치 합이 큰 유저부터 fanoutLimit명까지 (점수 순위에 들어갈 가능성이 높은 쪽)
+        Map<Long, Integer> overlapByUser = new HashMap<>();
+        jdbcTemplate.query("SELECT user_id, SUM(weight) AS overlap FROM user_skill_stacks WHERE stack IN (" + placeholders + ")"
+                        + " AND user_id <> ? GROUP BY user_id ORDER BY overlap DESC LIMIT ?",
+                (RowCallbackHandler) rs -> overlapByUser.put(rs.getLong(1), rs.getInt(2)), args.toArray());
+        if (overlapByUser.isEmpty()) {
+            return;
+        }
+
+        long today = today();
+        long createdDay = createdAt == null ? today : createdAt.toLocalDate().toEpochDay();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> userIds = new ArrayList<>(overlapByUser.keySet());
+        for (int from = 0; from < userIds.size(); from += IN_CHUNK) {
+            List<Long> chunk = userIds.subList(from, Math.min(userIds.size(), from + IN_CHUNK));
+
+            // 유저별 현재 추천 수 / 최저 점수
+            Map<Long, int[]> current = new HashMap<>();
+            jdbcTemplate.query("SELECT user_id, COUNT(*), MIN(score) FROM recruit_recommendations WHERE user_id IN ("
+                            + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ") GROUP BY user_id",
+                    (RowCallbackHandler) rs -> current.put(rs.getLong(1), new int[]{rs.getInt(2), rs.getInt(3)}),
+                    chunk.toArray());
+
+            List<Object[]> inserts = new ArrayList<>();
+            List<Object[]> trims = new ArrayList<>();
+            for (Long userId : chunk) {
+                int score = score(overlapByUser.get(userId), createdDay, today);
+                int[] countAndMin = current.get(userId);
+                if (countAndMin == null || countAndMin[0] < topK) {
+                    inserts.add(new Object[]{userId, recruitId, score, now});
+                } else if (score > countAndMin[1]) {
+                    inserts.add(new Object[]{userId, recruitId, score, now});
+                    trims.add(new Object[]{userId});
+                }
+            }
+            insertRecommendations(inserts);
+            if (!trims.isEmpty()) {
+                jdbcTemplate.batchUpdate(
+                        "DELETE FROM recruit_recommendations WHERE user_id = ? ORDER BY score ASC, recruit_id ASC LIMIT 1", trims);
+            }
+        }
+    }
+
+    // 모집글 삭제 / 마감
+    @Transactional
+    public void onRecruitsRemoved(List<Long> recruitIds) {
+        if (recruitIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("DELETE FROM recruit_recommendations WHERE recruit_id = ?",
+                recruitIds.stream().map(id -> new Object[]{id}).toList());
+    }
+
+    private void insertRecommendations(List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO recruit_recommendations (user_id, recruit_id, score, created_at) VALUES (?, ?, ?, ?)", rows);
+        }
+    }
+}
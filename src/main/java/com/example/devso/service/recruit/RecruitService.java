@@ -2,23 +2,40 @@ package com.example.devso.service.recruit;
 
 import com.example.devso.dto.request.recruit.RecruitRequest;
 import com.example.devso.dto.request.recruit.RecruitSearchRequest;
+import com.example.devso.dto.response.UserCard;
+import com.example.devso.dto.response.recruit.RecruitFacetResponse;
 import com.example.devso.dto.response.recruit.RecruitResponse;
 import com.example.devso.entity.User;
 import com.example.devso.entity.recruit.*;
 import com.example.devso.exception.CustomException;
 import com.example.devso.exception.ErrorCode;
+import com.example.devso.repository.recruit.BookmarkTargetProjection;
 import com.example.devso.repository.recruit.RecruitBookMarkRepository;
+import com.example.devso.repository.recruit.RecruitCardProjection;
+import com.example.devso.repository.recruit.RecruitOptionRow;
 import com.example.devso.repository.recruit.RecruitRepository;
 import com.example.devso.repository.UserRepository;
+import com.example.devso.service.UserCardCache;
+import com.example.devso.util.EnumMasks;
+import com.example.devso.util.TransactionHooks;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -26,9 +43,15 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class RecruitService {
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
     private final RecruitRepository recruitRepository;
     private final RecruitBookMarkRepository recruitBookMarkRepository;
     private final UserRepository userRepository;
+    private final UserCardCache userCardCache;
+    private final RecruitFacetIndex recruitFacetIndex;
+    private final RecruitRecommendationService recruitRecommendationService;
+    private final RecruitViewRecorder recruitViewRecorder;
 
     // 모집글 생성
     @Transactional
@@ -37,27 +60,31 @@ public class RecruitService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         Recruit recruit = Recruit.create(user, request);
+        // 목록의 모집 중 필터는 상태만 보므로 마감일이 지났으면 바로 마감
+        if (recruit.isDeadlinePassed(LocalDate.now(ZONE))) {
+            recruit.close();
+        }
         recruitRepository.save(recruit);
+        reindexAfterCommit(recruit);
+        recruitRecommendationService.onRecruitChanged(recruit);
         return RecruitResponse.from(recruit);
     }
 
-    //모집글 전체 조회
-    public List<RecruitResponse> findAll(Long currentUserId){
-        List<Recruit> recruits = recruitRepository.findAllWithUser();
-        return recruits.stream().map(recruit -> toRecruitResponseWithStatus(recruit, currentUserId)).toList();
+    //모집글 전체 조회 (최신순 페이지)
+    public Page<RecruitResponse> findAll(Long currentUserId, Pageable pageable){
+        return toCardPage(recruitRepository.findLatestIds(pageable), currentUserId);
     }
 
     //모집글 상세 조회
-    @Transactional
-    public RecruitResponse findById(Long recruitId, Long currentUserId, boolean isIncrement) {
+    // viewerKey가 있으면 조회수 집계 (같은 조회자는 24시간에 1회, DB 반영은 RecruitViewRecorder가 모아서)
+    public RecruitResponse findById(Long recruitId, Long currentUserId, String viewerKey) {
         Recruit recruit = recruitRepository.findByIdWithDetails(recruitId)
                 .orElseThrow(() -> new CustomException(ErrorCode.RECRUIT_NOT_FOUND));
 
-        // true일 때만 조회수 증가
-        if (isIncrement) {
-            recruit.increaseViewCount();
+        if (viewerKey != null) {
+            recruitViewRecorder.record(recruitId, viewerKey);
         }
-        return toRecruitResponseWithStatus(recruit, currentUserId);
+        return toRecruitResponseWithStatus(recruit, UserCard.from(recruit.getUser()), currentUserId);
     }
 
     //모집글 수정
@@ -70,6 +97,8 @@ public class RecruitService {
             throw new CustomException(ErrorCode.NOT_RECRUIT_OWNER);
         }
 
+        long stackMaskBefore = recruit.getStackMask();
+        RecruitStatus statusBefore = recruit.getStatus();
         recruit.update(
                 request.getTitle(),
                 request.getContent(),
@@ -82,7 +111,14 @@ public class RecruitService {
                 request.getTotalCount(),
                 request.getDeadLine()
         );
-
+        if (recruit.getStatus() == RecruitStatus.OPEN && recruit.isDeadlinePassed(LocalDate.now(ZONE))) {
+            recruit.close();
+        }
+        reindexAfterCommit(recruit);
+        // 추천 점수는 스택에만 의존 (마감일 때문에 마감된 경우는 추천에서 제외)
+        if (recruit.getStackMask() != stackMaskBefore || recruit.getStatus() != statusBefore) {
+            recruitRecommendationService.onRecruitChanged(recruit);
+        }
 
         return RecruitResponse.from(recruit);
     }
@@ -102,8 +138,14 @@ public class RecruitService {
         if (recruit.getStatus() == RecruitStatus.OPEN) {
             recruit.close(); // 엔티티의 close() 메서드 호출
         } else {
+            // 마감일이 지난 글을 다시 열면 자동 마감 잡이 돌 때까지 모집 중으로 노출됨
+            if (recruit.isDeadlinePassed(LocalDate.now(ZONE))) {
+                throw new CustomException(ErrorCode.RECRUIT_DEADLINE_PASSED);
+            }
             recruit.open();
         }
+        reindexAfterCommit(recruit);
+        recruitRecommendationService.onRecruitChanged(recruit);
 
         return recruit.getStatus();
     }
@@ -119,33 +161,54 @@ public class RecruitService {
         }
 
         recruitRepository.delete(recruit);
+        recruitRecommendationService.onRecruitsRemoved(List.of(recruitId));
+        TransactionHooks.afterCommit(() -> recruitFacetIndex.remove(recruitId));
+    }
+
+    // 목록 필터 인덱스 반영 (커밋 이후, 엔티티가 아닌 값만 넘김)
+    private void reindexAfterCommit(Recruit recruit) {
+        Long id = recruit.getId();
+        RecruitType type = recruit.getType();
+        RecruitProgressType progressType = recruit.getProgressType();
+        RecruitStatus status = recruit.getStatus();
+        long stackMask = recruit.getStackMask();
+        long positionMask = recruit.getPositionMask();
+        TransactionHooks.afterCommit(() ->
+                recruitFacetIndex.upsert(id, type, progressType, status, stackMask, positionMask));
     }
 
 
 
     //Recruit엔티티와 사용자 정보로 상태 반환
-    private RecruitResponse toRecruitResponseWithStatus(Recruit recruit, Long currentUserId) {
+    private RecruitResponse toRecruitResponseWithStatus(Recruit recruit, UserCard author, Long currentUserId) {
         //북마크 표시
         boolean bookmarked = currentUserId != null
                 && recruitBookMarkRepository.existsByUserIdAndRecruitId(currentUserId, recruit.getId());
-        return RecruitResponse.from(recruit, bookmarked);
+        long viewCount = recruit.getViewCount() + recruitViewRecorder.pendingCount(recruit.getId());
+        return RecruitResponse.from(recruit, author, bookmarked, viewCount);
     }
 
     //북마크 토글
     @Transactional
     public boolean toggleBookmark(Long userId, Long recruitId) {
-        Recruit recruit = recruitRepository.findById(recruitId)
+        // 모집글 존재 + 내 북마크 여부를 쿼리 한 번으로 확인
+        BookmarkTargetProjection target = recruitBookMarkRepository.findBookmarkTarget(recruitId, userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.RECRUIT_NOT_FOUND));
 
-        boolean exists = recruitBookMarkRepository.existsByUserIdAndRecruitId(userId, recruitId);
+        boolean exists = target.getBookmarked() != null && target.getBookmarked() == 1;
         if (exists) {
-            recruitBookMarkRepository.deleteByUserIdAndRecruitId(userId, recruitId);
+            int removed = recruitBookMarkRepository.deleteByUserIdAndRecruitId(userId, recruitId);
+            if (removed > 0) {
+                recruitRepository.addBookmarkCount(recruitId, -removed);
+            }
             return false; // 북마크 해제
         } else {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+            // 로그인 유저 / 확인된 모집글은 FK만 필요하므로 조회 없이 프록시로 연결
+            User user = userRepository.getReferenceById(userId);
+            Recruit recruit = recruitRepository.getReferenceById(recruitId);
             RecruitBookMark bookmark = new RecruitBookMark(user, recruit);
             recruitBookMarkRepository.save(bookmark);
+            recruitRepository.addBookmarkCount(recruitId, 1);
             return true; // 북마크 등록
         }
     }
@@ -155,27 +218,141 @@ public class RecruitService {
 
         // 1. 파라미터 변환 (기존 로직 유지)
         RecruitType type = (cond.getType() == null || cond.getType() == 0) ? null : RecruitType.fromValue(cond.getType());
-        RecruitPosition position = (cond.getPosition() == null || cond.getPosition() == 0) ? null : RecruitPosition.fromValue(cond.getPosition());
+        long positionMask = (cond.getPosition() == null || cond.getPosition() == 0) ? 0L : EnumMasks.bit(RecruitPosition.fromValue(cond.getPosition()));
         RecruitProgressType progressType = (cond.getProgressType() == null) ? null : RecruitProgressType.fromValue(cond.getProgressType());
         String searchKeyword = (cond.getSearch() == null || cond.getSearch().trim().isEmpty()) ? null : cond.getSearch();
-        List<TechStack> stacks = (cond.getStacks() == null || cond.getStacks().isEmpty()) ? null : cond.getStacks().stream().map(TechStack::fromValue).toList();
+        long stackMask = (cond.getStacks() == null || cond.getStacks().isEmpty()) ? 0L : EnumMasks.of(cond.getStacks().stream().map(TechStack::fromValue).toList());
 
-        // 2. DB 호출 (컨트롤러에서 채워진 currentUsername을 그대로 필터로 사용)
-        Page<Recruit> recruitPage = recruitRepository.findRecruitsByFilters(
-                type, searchKeyword, stacks, position, progressType,
-                cond.isOnlyOpen(), cond.isOnlyBookmarked(), cond.isOnlyMyRecruits(),
-                currentUserId, cond.getCurrentUsername(), RecruitStatus.OPEN , pageable
-        );
+        // 2. 페이지의 ID 구하기
+        //    인덱스에 있는 필터만 쓰는 최신순 조회는 비트맵 인덱스에서, 나머지는 DB 필터 쿼리로
+        Page<Long> idPage;
+        if (recruitFacetIndex.isReady() && searchKeyword == null
+                && !cond.isOnlyBookmarked() && !cond.isOnlyMyRecruits() && isLatestFirst(pageable.getSort())) {
+            RecruitFacetIndex.PageResult slice = recruitFacetIndex.page(
+                    new RecruitFacetIndex.Filter(type, progressType, positionMask, stackMask, cond.isOnlyOpen()),
+                    pageable.getOffset(), pageable.getPageSize());
+            idPage = new PageImpl<>(slice.ids(), pageable, slice.total());
+        } else {
+            // DB 호출 (컨트롤러에서 채워진 currentUsername을 그대로 필터로 사용)
+            idPage = recruitRepository.findRecruitIdsByFilters(
+                    type, searchKeyword, stackMask, positionMask, progressType,
+                    cond.isOnlyOpen(), cond.isOnlyBookmarked(), cond.isOnlyMyRecruits(),
+                    currentUserId, cond.getCurrentUsername(), RecruitStatus.OPEN , pageable
+            );
+        }
+
+        // 3. 카드 컬럼만 조회해서 DTO로 변환
+        return toCardPage(idPage, currentUserId);
+    }
+
+    // ID 페이지 -> 카드 DTO 페이지 (엔티티 / content 없이 카드 컬럼 + 포지션/스택 + 북마크 여부, 페이지 정보 유지)
+    private Page<RecruitResponse> toCardPage(Page<Long> idPage, Long currentUserId) {
+        List<Long> ids = idPage.getContent();
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), idPage.getPageable(), idPage.getTotalElements());
+        }
+
+        Map<Long, RecruitCardProjection> cards = recruitRepository.findCardsByIds(ids).stream()
+                .collect(Collectors.toMap(RecruitCardProjection::getId, c -> c));
+
+        // 포지션 / 스택 (컬렉션 테이블 두 개를 쿼리 한 번으로)
+        Map<Long, List<RecruitPosition>> positions = new HashMap<>();
+        Map<Long, List<TechStack>> stacks = new HashMap<>();
+        RecruitPosition[] positionValues = RecruitPosition.values();
+        TechStack[] stackValues = TechStack.values();
+        for (RecruitOptionRow row : recruitRepository.findOptionsByRecruitIds(ids)) {
+            // 컬렉션 테이블의 값 컬럼은 NULL 허용이므로 NULL / 범위 밖 값은 건너뜀
+            Integer value = row.getOptionValue();
+            if (row.getKind() == 0) {
+                if (value != null && value >= 0 && value < positionValues.length) {
+                    positions.computeIfAbsent(row.getRecruitId(), k -> new ArrayList<>()).add(positionValues[value]);
+                }
+            } else if (value != null && value >= 0 && value < stackValues.length) {
+                stacks.computeIfAbsent(row.getRecruitId(), k -> new ArrayList<>()).add(stackValues[value]);
+            }
+        }
 
-        // 3. 북마크 여부 확인
+        // 북마크 여부 확인
         Set<Long> bookmarkedIds = new HashSet<>();
-        if (currentUserId != null && !recruitPage.isEmpty()) {
-            List<Long> ids = recruitPage.getContent().stream().map(Recruit::getId).toList();
+        if (currentUserId != null) {
             bookmarkedIds.addAll(recruitBookMarkRepository.findRecruitIdsByUserIdAndRecruitIds(currentUserId, ids));
         }
 
-        // 4. Page<Entity> -> Page<DTO> 변환 (페이지 정보 유지됨)
-        return recruitPage.map(r -> RecruitResponse.from(r, bookmarkedIds.contains(r.getId())));
+        // 작성자 요약 일괄 조회
+        Map<Long, UserCard> authors = userCardCache.getAll(
+                cards.values().stream().map(RecruitCardProjection::getUserId).toList());
+
+        // ID 조회와 카드 조회 사이에 삭제된 글은 건너뜀
+        List<RecruitResponse> content = ids.stream()
+                .map(cards::get)
+                .filter(Objects::nonNull)
+                .map(c -> RecruitResponse.fromCard(c,
+                        positions.getOrDefault(c.getId(), List.of()),
+                        stacks.getOrDefault(c.getId(), List.of()),
+                        authors.get(c.getUserId()),
+                        bookmarkedIds.contains(c.getId())))
+                .toList();
+        return new PageImpl<>(content, idPage.getPageable(), idPage.getTotalElements());
+    }
+
+    // 추천 모집글 (RecruitRecommendationService가 미리 계산한 상위 K개에서 조회)
+    public List<RecruitResponse> getRecommended(Long currentUserId, int size) {
+        if (currentUserId == null) {
+            throw new CustomException(ErrorCode.LOGIN_REQUIRED);
+        }
+        int limit = Math.max(1, Math.min(size, 50));
+        List<Long> ids = recruitRecommendationService.getRecommendedRecruitIds(currentUserId, limit);
+        return toCardPage(new PageImpl<>(ids), currentUserId).getContent();
+    }
+
+    // 필터값별 모집글 수 (검색어 / 내 글 / 북마크 필터는 반영하지 않음)
+    public RecruitFacetResponse getFacets(RecruitSearchRequest cond) {
+        // 구성은 시작 시 / 주기적으로만 (요청 스레드에서 전체 조회하지 않음)
+        if (!recruitFacetIndex.isReady()) {
+            return RecruitFacetResponse.notReady();
+        }
+        RecruitType type = (cond.getType() == null || cond.getType() == 0) ? null : RecruitType.fromValue(cond.getType());
+        long positionMask = (cond.getPosition() == null || cond.getPosition() == 0) ? 0L : EnumMasks.bit(RecruitPosition.fromValue(cond.getPosition()));
+        RecruitProgressType progressType = (cond.getProgressType() == null) ? null : RecruitProgressType.fromValue(cond.getProgressType());
+        long stackMask = (cond.getStacks() == null || cond.getStacks().isEmpty()) ? 0L : EnumMasks.of(cond.getStacks().stream().map(TechStack::fromValue).toList());
+
+        RecruitFacetIndex.Facets facets = recruitFacetIndex.facets(
+                new RecruitFacetIndex.Filter(type, progressType, positionMask, stackMask, cond.isOnlyOpen()));
+
+        Map<Integer, Long> types = new LinkedHashMap<>();
+        for (RecruitType t : RecruitType.values()) {
+            types.put(t.getValue(), facets.types()[t.ordinal()]);
+        }
+        Map<Integer, Long> progressTypes = new LinkedHashMap<>();
+        for (RecruitProgressType p : RecruitProgressType.values()) {
+            progressTypes.put(p.getValue(), facets.progressTypes()[p.ordinal()]);
+        }
+        Map<Integer, Long> positions = new LinkedHashMap<>();
+        for (RecruitPosition p : RecruitPosition.values()) {
+            positions.put(p.getValue(), facets.positions()[p.ordinal()]);
+        }
+        Map<Integer, Long> stacks = new LinkedHashMap<>();
+        for (TechStack s : TechStack.values()) {
+            stacks.put(s.getValue(), facets.stacks()[s.ordinal()]);
+        }
+        return RecruitFacetResponse.builder()
+                .ready(true)
+                .total(facets.total())
+                .types(types)
+                .progressTypes(progressTypes)
+                .positions(positions)
+                .stacks(stacks)
+                .build();
+    }
+
+    // 기본 정렬(createdAt DESC)이나 id DESC만 인덱스로 처리 (id는 AUTO_INCREMENT라 작성순과 같음)
+    private static boolean isLatestFirst(Sort sort) {
+        if (sort.isUnsorted()) {
+            return true;
+        }
+        List<Sort.Order> orders = sort.toList();
+        return orders.size() == 1 && orders.get(0).isDescending()
+                && ("createdAt".equals(orders.get(0).getProperty()) || "id".equals(orders.get(0).getProperty()));
     }
 
 }
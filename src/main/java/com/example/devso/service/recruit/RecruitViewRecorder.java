@@ -0,0 +1,94 @@
+package com.example.devso.service.recruit;
+
+import com.example.devso.util.LruCache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모집글 조회수 기록
+ * - 같은 조회자(ViewerKey)는 모집글당 24시간에 1회만 집계 (최근 조회 기록은 크기 제한 LRU, 인스턴스 메모리)
+ * - 집계분은 메모리에 모았다가 flushMillis마다 한 번에 UPDATE (인기 글도 조회마다 행 잠금을 잡지 않음)
+ * - 응답의 조회수는 DB 값 + 아직 반영 전인 집계분
+ */
+@Slf4j
+@Component
+public class RecruitViewRecorder {
+
+    private static final long DEDUP_WINDOW_MILLIS = TimeUnit.HOURS.toMillis(24);
+
+    private final JdbcTemplate jdbcTemplate;
+    // "recruitId:viewerKey" -> 마지막으로 집계된 시각
+    private final LruCache<String, Long> lastCounted;
+    // recruitId -> 반영 전 조회수
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    public RecruitViewRecorder(JdbcTemplate jdbcTemplate,
+                               @Value("${recruit.view.dedup-size:100000}") int dedupSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lastCounted = new LruCache<>(dedupSize);
+    }
+
+    // 집계했으면 true (24시간 안에 같은 조회자가 다시 보면 false)
+    public boolean record(Long recruitId, String viewerKey) {
+        String key = recruitId + ":" + viewerKey;
+        long now = System.currentTimeMillis();
+        synchronized (lastCounted) {
+            Long last = lastCounted.get(key);
+            if (last != null && now - last < DEDUP_WINDOW_MILLIS) {
+                return false;
+            }
+            lastCounted.put(key, now);
+        }
+        pending.merge(recruitId, 1L, Long::sum);
+        return true;
+    }
+
+    public long pendingCount(Long recruitId) {
+        return pending.getOrDefault(recruitId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${recruit.view.flush-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // id 순으로 UPDATE (다른 트랜잭션과 잠금 순서를 맞춤)
+        Map<Long, Long> drained = new TreeMap<>();
+        for (Long recruitId : pending.keySet()) {
+            Long count = pending.remove(recruitId);
+            if (count != null) {
+                drained.put(recruitId, count);
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(drained.size());
+        drained.forEach((recruitId, count) -> rows.add(new Object[]{count, recruitId}));
+        try {
+            jdbcTemplate.batchUpdate("UPDATE recruits SET view_count = view_count + ? WHERE id = ?", rows);
+        } catch (RuntimeException e) {
+            // 실패분은 다음 주기에 다시 시도
+            drained.forEach((recruitId, count) -> pending.merge(recruitId, count, Long::sum));
+            log.warn("[RecruitViewRecorder] 조회수 반영 실패 ({}건), 다음 주기에 재시도: {}", drained.size(), e.getMessage());
+        }
+    }
+
+    // 종료 시 남은 집계분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
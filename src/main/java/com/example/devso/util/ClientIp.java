@@ -0,0 +1,19 @@
+package com.example.devso.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 요청한 클라이언트 IP
+ * - X-Forwarded-For는 클라이언트가 마음대로 보낼 수 있으므로 직접 읽지 않음
+ * - 프록시 뒤에서는 server.forward-headers-strategy=native(Tomcat RemoteIpValve)가
+ *   신뢰하는 내부 프록시를 거친 경우에만 remoteAddr를 원본 IP로 바꿔 줌
+ */
+public final class ClientIp {
+
+    private ClientIp() {
+    }
+
+    public static String resolve(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+}
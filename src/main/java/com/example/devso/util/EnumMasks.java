@@ -0,0 +1,32 @@
+package com.example.devso.util;
+
+import java.util.Collection;
+
+/**
+ * enum 집합 <-> long 비트마스크 (비트 위치 = ordinal, DB에 저장되는 enum 값과 같음)
+ */
+public final class EnumMasks {
+
+    private EnumMasks() {
+    }
+
+    public static long of(Collection<? extends Enum<?>> values) {
+        long mask = 0L;
+        if (values == null) {
+            return mask;
+        }
+        for (Enum<?> value : values) {
+            if (value != null) {
+                mask |= bit(value);
+            }
+        }
+        return mask;
+    }
+
+    public static long bit(Enum<?> value) {
+        if (value.ordinal() >= Long.SIZE) {
+            throw new IllegalArgumentException("비트마스크는 64개까지만 지원합니다: " + value);
+        }
+        return 1L << value.ordinal();
+    }
+}
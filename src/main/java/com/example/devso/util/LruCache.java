@@ -0,0 +1,46 @@
+package com.example.devso.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 최대 크기가 정해진 LRU 캐시 (가장 오래 조회되지 않은 항목부터 제거)
+ */
+public class LruCache<K, V> {
+
+    private final LinkedHashMap<K, V> map;
+
+    public LruCache(int maxSize) {
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        return map.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        map.put(key, value);
+    }
+
+    public synchronized void remove(K key) {
+        map.remove(key);
+    }
+
+    public synchronized void removeIf(Predicate<V> predicate) {
+        map.values().removeIf(predicate);
+    }
+
+    public synchronized void clear() {
+        map.clear();
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.devso.util;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 토큰 버킷 (GCRA: 키마다 "다음 요청이 허용되는 이론상 시각" long 하나만 보관)
+ * - 허용 판단은 CAS 루프 (락 없음)
+ * - 키는 stripe 단위 맵에 나눠 보관하고, stripe가 maxKeysPerStripe를 넘으면
+ *   버킷이 가득 찬 키(보관할 필요가 없는 상태)부터 정리, 그래도 넘치면 이론상 시각이 가장 이른
+ *   (가장 오래 요청이 없었던) 키부터 3/4까지 줄임 (stripe 전체를 비우면 정상 키의 제한까지 풀림)
+ */
+public class RateLimiter {
+
+    private final Stripe[] stripes;
+    private final int maxKeysPerStripe;
+
+    public RateLimiter(int stripeCount, int maxKeysPerStripe) {
+        this.stripes = new Stripe[Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.maxKeysPerStripe = maxKeysPerStripe;
+    }
+
+    /**
+     * @param intervalNanos 토큰 1개가 채워지는 간격
+     * @param burst         버킷 크기 (연속 허용 개수)
+     * @return 0이면 허용, 아니면 다시 시도할 수 있을 때까지 남은 nanos
+     */
+    public long tryAcquire(String key, long intervalNanos, int burst) {
+        long now = System.nanoTime();
+        long tolerance = intervalNanos * (burst - 1);
+        Stripe stripe = stripes[spread(key.hashCode()) & (stripes.length - 1)];
+
+        AtomicLong tat = stripe.buckets.get(key);
+        if (tat == null) {
+            AtomicLong created = new AtomicLong(now + intervalNanos);
+            tat = stripe.buckets.putIfAbsent(key, created);
+            if (tat == null) {
+                stripe.evictIfFull(now, maxKeysPerStripe);
+                return 0;
+            }
+        }
+        while (true) {
+            long current = tat.get();
+            long base = Math.max(current, now);
+            long wait = base - now - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, base + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        int n = 0;
+        for (Stripe stripe : stripes) {
+            n += stripe.buckets.size();
+        }
+        return n;
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Stripe {
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicBoolean sweeping = new AtomicBoolean();
+
+        void evictIfFull(long now, int max) {
+            if (buckets.size() <= max || !sweeping.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                // 이론상 시각이 지난 키 = 버킷이 가득 찬 상태, 지워도 결과가 같음
+                Iterator<Map.Entry<String, AtomicLong>> it = buckets.entrySet().iterator();
+                while (it.hasNext()) {
+                    if (it.next().getValue().get() <= now) {
+                        it.remove();
+                    }
+                }
+                if (buckets.size() > max) {
+                    evictEarliest(buckets.size() - max * 3 / 4);
+                }
+            } finally {
+                sweeping.set(false);
+            }
+        }
+
+        // 이론상 시각이 가장 이른 키 n개 제거 (동점이면 조금 더 지울 수 있음)
+        private void evictEarliest(int n) {
+            long[] tats = buckets.values().stream().mapToLong(AtomicLong::get).sorted().toArray();
+            if (tats.length == 0) {
+                return;
+            }
+            long cutoff = tats[Math.min(n, tats.length) - 1];
+            buckets.values().removeIf(tat -> tat.get() <= cutoff);
+        }
+    }
+}
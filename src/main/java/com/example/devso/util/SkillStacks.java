@@ -0,0 +1,71 @@
+package com.example.devso.util;
+
+import com.example.devso.entity.recruit.TechStack;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 프로필 스킬(자유 입력) -> 모집글 기술 스택(TechStack) 매핑
+ * - 이름은 소문자 + 공백/점/하이픈/밑줄 제거로 정규화 ("Node.js", "node js" -> "nodejs")
+ * - enum 이름 / 라벨 외에 자주 쓰는 별칭도 매핑, 매핑되지 않는 스킬은 추천에서 무시
+ * - 숙련도(상/중/하)는 가중치 3/2/1, 알 수 없는 값은 중간값
+ */
+public final class SkillStacks {
+
+    private static final Map<String, TechStack> BY_NAME = new HashMap<>();
+
+    static {
+        for (TechStack stack : TechStack.values()) {
+            BY_NAME.put(normalize(stack.name()), stack);
+            BY_NAME.put(normalize(stack.getLabel()), stack);
+        }
+        alias(TechStack.JAVASCRIPT, "js", "ecmascript");
+        alias(TechStack.TYPESCRIPT, "ts");
+        alias(TechStack.REACT, "reactjs");
+        alias(TechStack.VUE, "vuejs", "vue3");
+        alias(TechStack.NEXTJS, "next");
+        alias(TechStack.NODEJS, "node");
+        alias(TechStack.NESTJS, "nest");
+        alias(TechStack.EXPRESS, "expressjs");
+        alias(TechStack.SPRING, "springboot", "springframework");
+        alias(TechStack.GO, "golang");
+        alias(TechStack.MONGODB, "mongo");
+        alias(TechStack.KUBERNETES, "k8s");
+        alias(TechStack.AWS, "amazonwebservices");
+        alias(TechStack.REACTNATIVE, "rn");
+    }
+
+    private SkillStacks() {
+    }
+
+    // 매핑되는 스택이 없으면 null
+    public static TechStack of(String skillName) {
+        if (skillName == null) {
+            return null;
+        }
+        return BY_NAME.get(normalize(skillName));
+    }
+
+    public static int weightOf(String level) {
+        if (level == null) {
+            return 2;
+        }
+        return switch (level.strip()) {
+            case "상" -> 3;
+            case "하" -> 1;
+            default -> 2;
+        };
+    }
+
+    private static void alias(TechStack stack, String... names) {
+        for (String name : names) {
+            BY_NAME.put(name, stack);
+        }
+    }
+
+    private static String normalize(String s) {
+        return s.strip().toLowerCase(Locale.ROOT).replaceAll("[\\s._-]+", "");
+    }
+}
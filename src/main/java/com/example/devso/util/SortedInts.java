@@ -0,0 +1,88 @@
+package com.example.devso.util;
+
+import java.util.Arrays;
+
+/**
+ * 오름차순 정렬 + 중복 없는 int[] 연산 모음 (copy-on-write: 변경 시 새 배열 반환)
+ * - 값이 이미 있거나 없어서 변경이 없으면 원본 배열을 그대로 반환
+ */
+public final class SortedInts {
+
+    public static final int[] EMPTY = new int[0];
+
+    private SortedInts() {
+    }
+
+    // 앞에서 n개만 정렬/중복 제거 (일괄 구성용, 원본 배열 재사용)
+    public static int[] sortDistinct(int[] arr, int n) {
+        if (n == 0) {
+            return EMPTY;
+        }
+        Arrays.sort(arr, 0, n);
+        int w = 1;
+        for (int r = 1; r < n; r++) {
+            if (arr[r] != arr[w - 1]) {
+                arr[w++] = arr[r];
+            }
+        }
+        return w == arr.length ? arr : Arrays.copyOf(arr, w);
+    }
+
+    public static boolean contains(int[] sorted, int value) {
+        return sorted != null && Arrays.binarySearch(sorted, value) >= 0;
+    }
+
+    public static int[] insert(int[] sorted, int value) {
+        if (sorted == null || sorted.length == 0) {
+            return new int[]{value};
+        }
+        int pos = Arrays.binarySearch(sorted, value);
+        if (pos >= 0) {
+            return sorted;
+        }
+        int at = -pos - 1;
+        int[] next = new int[sorted.length + 1];
+        System.arraycopy(sorted, 0, next, 0, at);
+        next[at] = value;
+        System.arraycopy(sorted, at, next, at + 1, sorted.length - at);
+        return next;
+    }
+
+    public static int[] remove(int[] sorted, int value) {
+        if (sorted == null) {
+            return EMPTY;
+        }
+        int pos = Arrays.binarySearch(sorted, value);
+        if (pos < 0) {
+            return sorted;
+        }
+        if (sorted.length == 1) {
+            return EMPTY;
+        }
+        int[] next = new int[sorted.length - 1];
+        System.arraycopy(sorted, 0, next, 0, pos);
+        System.arraycopy(sorted, pos + 1, next, pos, sorted.length - pos - 1);
+        return next;
+    }
+
+    // 두 정렬 배열의 교집합 (O(n + m) 병합)
+    public static int[] intersect(int[] a, int[] b) {
+        if (a.length == 0 || b.length == 0) {
+            return EMPTY;
+        }
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.devso.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 오름차순 정렬 + 중복 제거된 primitive long[] 연산 모음
+ * (팔로잉 집합, 좋아요 유저 집합처럼 ID 집합을 박싱 없이 다룰 때 사용)
+ */
+public final class SortedLongs {
+
+    public static final long[] EMPTY = new long[0];
+
+    private SortedLongs() {
+    }
+
+    // 컬렉션 -> 정렬/중복 제거된 배열
+    public static long[] of(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return EMPTY;
+        }
+        long[] arr = new long[ids.size()];
+        int n = 0;
+        for (Long id : ids) {
+            if (id != null) {
+                arr[n++] = id;
+            }
+        }
+        return sortDistinct(arr, n);
+    }
+
+    // 앞에서 n개만 정렬/중복 제거 (원본 배열 재사용)
+    public static long[] sortDistinct(long[] arr, int n) {
+        if (n == 0) {
+            return EMPTY;
+        }
+        Arrays.sort(arr, 0, n);
+        int w = 1;
+        for (int r = 1; r < n; r++) {
+            if (arr[r] != arr[w - 1]) {
+                arr[w++] = arr[r];
+            }
+        }
+        return w == arr.length ? arr : Arrays.copyOf(arr, w);
+    }
+
+    public static boolean contains(long[] sorted, long id) {
+        return Arrays.binarySearch(sorted, id) >= 0;
+    }
+
+    // 두 정렬 배열의 교집합 (O(n + m) 병합)
+    public static long[] intersect(long[] a, long[] b) {
+        if (a.length == 0 || b.length == 0) {
+            return EMPTY;
+        }
+        long[] out = new long[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            long x = a[i], y = b[j];
+            if (x < y) {
+                i++;
+            } else if (x > y) {
+                j++;
+            } else {
+                out[n++] = x;
+                i++;
+                j++;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.devso.util;
+
+/**
+ * 점수 상위 k개 (id, score)를 유지하는 최소 힙 (배치 추천 계산용, 스레드 안전하지 않음)
+ * - 꺼낼 때 순서는 정렬되어 있지 않음
+ */
+public final class TopK {
+
+    private final int[] scores;
+    private final int[] ids;
+    private int size;
+
+    public TopK(int k) {
+        this.scores = new int[Math.max(0, k)];
+        this.ids = new int[Math.max(0, k)];
+    }
+
+    public void offer(int score, int id) {
+        if (scores.length == 0) {
+            return;
+        }
+        if (size < scores.length) {
+            scores[size] = score;
+            ids[size] = id;
+            siftUp(size++);
+        } else if (score > scores[0]) {
+            scores[0] = score;
+            ids[0] = id;
+            siftDown(0);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int id(int i) {
+        return ids[i];
+    }
+
+    public int score(int i) {
+        return scores[i];
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (scores[parent] <= scores[i]) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                break;
+            }
+            int smallest = left + 1 < size && scores[left + 1] < scores[left] ? left + 1 : left;
+            if (scores[i] <= scores[smallest]) {
+                break;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int s = scores[a];
+        scores[a] = scores[b];
+        scores[b] = s;
+        int id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.devso.util;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+
+/**
+ * 조회수 중복 제거용 조회자 키
+ * - 로그인: "u:{userId}"
+ * - 비로그인: SHA-256(ip + ":" + 쿠키값), 쿠키가 없으면 새로 발급
+ */
+public final class ViewerKey {
+
+    private static final String VIEW_COOKIE_NAME = "devso_vid";
+
+    private ViewerKey() {
+    }
+
+    public static String resolve(Long userId, HttpServletRequest request, HttpServletResponse response) {
+        if (userId != null) {
+            return "u:" + userId;
+        }
+        String ip = ClientIp.resolve(request);
+        String vid = getOrSetViewerCookie(request, response);
+        return sha256Hex(ip + ":" + vid);
+    }
+
+    private static String getOrSetViewerCookie(HttpServletRequest request, HttpServletResponse response) {
+        String existing = null;
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie c : cookies) {
+                if (VIEW_COOKIE_NAME.equals(c.getName())) {
+                    existing = c.getValue();
+                    break;
+                }
+            }
+        }
+
+        if (existing != null && !existing.isBlank()) {
+            return existing;
+        }
+
+        String vid = UUID.randomUUID().toString();
+        Cookie cookie = new Cookie(VIEW_COOKIE_NAME, vid);
+        cookie.setPath("/");
+        cookie.setHttpOnly(false); // 프론트에서 생성/확인도 가능하게
+        cookie.setMaxAge(60 * 60 * 24 * 365); // 1년
+        response.addCookie(cookie);
+        return vid;
+    }
+
+    private static String sha256Hex(String input) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] dig = md.digest(input.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(dig.length * 2);
+            for (byte b : dig) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
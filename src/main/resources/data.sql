@@ -963,5 +963,114 @@ UNLOCK TABLES;
 
 -- Dump completed on 2026-01-08 17:45:02
 
+-- 팔로우 중복 방지 유니크 키
+ALTER TABLE `follows` ADD UNIQUE KEY `uk_follow_follower_following` (`follower_id`,`following_id`);
+
+--
+-- Table structure for table `user_stats`
+--
+
+DROP TABLE IF EXISTS `user_stats`;
+CREATE TABLE `user_stats` (
+  `user_id` bigint NOT NULL,
+  `follower_count` bigint NOT NULL DEFAULT 0,
+  `following_count` bigint NOT NULL DEFAULT 0,
+  `post_count` bigint NOT NULL DEFAULT 0,
+  `likes_received` bigint NOT NULL DEFAULT 0,
+  PRIMARY KEY (`user_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 기존 데이터 기준 집계 백필
+INSERT INTO `user_stats` (`user_id`, `follower_count`, `following_count`, `post_count`, `likes_received`)
+SELECT u.id,
+       (SELECT COUNT(*) FROM follows f WHERE f.following_id = u.id),
+       (SELECT COUNT(*) FROM follows f WHERE f.follower_id = u.id),
+       (SELECT COUNT(*) FROM posts p WHERE p.user_id = u.id AND p.deleted_at IS NULL),
+       (SELECT COUNT(*) FROM post_likes pl JOIN posts p ON p.id = pl.post_id
+         WHERE p.user_id = u.id AND p.deleted_at IS NULL)
+FROM users u;
+
+--
+-- Table structure for table `follow_suggestions` (FollowSuggestionJob이 채움)
+--
+
+DROP TABLE IF EXISTS `follow_suggestions`;
+CREATE TABLE `follow_suggestions` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `user_id` bigint NOT NULL,
+  `suggested_user_id` bigint NOT NULL,
+  `score` int NOT NULL,
+  `mutual_count` int NOT NULL,
+  `created_at` datetime(6) NOT NULL,
+  PRIMARY KEY (`id`),
+  KEY `idx_follow_suggestion_user_score` (`user_id`,`score`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 이메일 중복 확인용 인덱스
+ALTER TABLE users ADD INDEX idx_users_email (email);
+
+-- 회원 탈퇴 후 연관 데이터 정리 작업
+DROP TABLE IF EXISTS `account_deletion_tasks`;
+CREATE TABLE `account_deletion_tasks` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `user_id` bigint NOT NULL,
+  `username` varchar(30) COLLATE utf8mb4_unicode_ci NOT NULL,
+  `stage` tinyint NOT NULL,
+  `processed_count` bigint NOT NULL DEFAULT 0,
+  `completed_at` datetime(6) DEFAULT NULL,
+  `created_at` datetime(6) DEFAULT NULL,
+  `updated_at` datetime(6) DEFAULT NULL,
+  `deleted_at` datetime(6) DEFAULT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_account_deletion_user` (`user_id`),
+  KEY `idx_account_deletion_completed` (`completed_at`, `id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- JWT 폐기용 토큰 버전 (비밀번호 변경 / 탈퇴 시 증가)
+ALTER TABLE users ADD COLUMN token_version int NOT NULL DEFAULT 0;
+
+-- 모집글 스택/포지션 비트마스크 (비트 위치 = enum ordinal, 값은 RecruitMaskBackfill이 채움)
+ALTER TABLE recruits ADD COLUMN stack_mask bigint NOT NULL DEFAULT 0;
+ALTER TABLE recruits ADD COLUMN position_mask bigint NOT NULL DEFAULT 0;
+
+-- 모집글 북마크 수 비정규화 (기존 데이터 기준 백필)
+ALTER TABLE recruits ADD COLUMN bookmark_count bigint NOT NULL DEFAULT 0;
+UPDATE recruits r
+SET r.bookmark_count = (SELECT COUNT(*) FROM recruit_bookmarks rb
+                        WHERE rb.recruit_id = r.id AND rb.deleted_at IS NULL);
+
+-- 모집 중 필터 + 최신순 (마감일 경과분은 RecruitAutoCloseJob이 매일 CLOSED로 바꿈)
+ALTER TABLE recruits ADD INDEX idx_recruits_status_created (status, created_at);
+
+--
+-- 모집글 추천 (RecruitRecommendationJob이 채움)
+--
+
+DROP TABLE IF EXISTS `user_skill_stacks`;
+CREATE TABLE `user_skill_stacks` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `user_id` bigint NOT NULL,
+  `stack` int NOT NULL,
+  `weight` int NOT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_user_skill_stack` (`user_id`,`stack`),
+  KEY `idx_user_skill_stack_stack` (`stack`,`user_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+DROP TABLE IF EXISTS `recruit_recommendations`;
+CREATE TABLE `recruit_recommendations` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `user_id` bigint NOT NULL,
+  `recruit_id` bigint NOT NULL,
+  `score` int NOT NULL,
+  `created_at` datetime(6) NOT NULL,
+  PRIMARY KEY (`id`),
+  KEY `idx_recruit_recommendation_user_score` (`user_id`,`score`),
+  KEY `idx_recruit_recommendation_recruit` (`recruit_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 회원 탈퇴 정리(AccountDeletionTasklet)의 user_id 기준 soft delete용
+ALTER TABLE chat_room_member ADD INDEX idx_chat_room_member_user (user_id, deleted_at);
+
 -- 2. 모든 작업이 끝난 후 다시 외래키 체크를 활성화합니다.
 SET FOREIGN_KEY_CHECKS = 1;
@@ -0,0 +1,129 @@
+package com.example.devso.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 카카오 OAuth 로컬 스텁 서버 (kakao-stub 프로필 전용, 부하 테스트용)
+ * - POST /oauth/token  : access_token = "stub-" + 인가 코드
+ * - GET  /v2/user/me   : 인가 코드로부터 고정된 카카오 ID / 닉네임 생성 (같은 코드 -> 같은 유저)
+ * - oauth.kakao.stub.latency-millis 만큼 지연 후 응답 (카카오 응답 시간 흉내)
+ * - 테스트 클래스패스에만 있으므로 배포 jar에는 포함되지 않음
+ * 실행: ./gradlew bootTestRun --args='--spring.profiles.active=kakao-stub'
+ *       (src/test/resources/application-kakao-stub.properties가 URI를 스텁으로 변경)
+ */
+@Component
+@Profile("kakao-stub")
+public class KakaoOauthStubServer {
+
+    // 테스트 클래스패스에는 Lombok이 없음
+    private static final Logger log = LoggerFactory.getLogger(KakaoOauthStubServer.class);
+
+    private static final String TOKEN_PREFIX = "stub-";
+
+    private final int port;
+    private final long latencyMillis;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public KakaoOauthStubServer(@Value("${oauth.kakao.stub.port:18089}") int port,
+                                @Value("${oauth.kakao.stub.latency-millis:50}") long latencyMillis) {
+        this.port = port;
+        this.latencyMillis = latencyMillis;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 512);
+        server.setExecutor(executor);
+        server.createContext("/oauth/token", this::token);
+        server.createContext("/v2/user/me", this::userInfo);
+        server.start();
+        log.info("[KakaoOauthStub] 시작 - port: {}, latency: {}ms", port, latencyMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void token(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, "{}");
+            return;
+        }
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        String code = formValue(body, "code");
+        if (code == null || code.isEmpty()) {
+            respond(exchange, 400, "{\"error\":\"invalid_grant\"}");
+            return;
+        }
+        delay();
+        respond(exchange, 200, "{\"access_token\":\"" + TOKEN_PREFIX + code
+                + "\",\"token_type\":\"bearer\",\"expires_in\":21599}");
+    }
+
+    private void userInfo(HttpExchange exchange) throws IOException {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith("Bearer " + TOKEN_PREFIX)) {
+            respond(exchange, 401, "{\"msg\":\"this access token does not exist\",\"code\":-401}");
+            return;
+        }
+        String code = authorization.substring(("Bearer " + TOKEN_PREFIX).length());
+        long kakaoId = 9_000_000_000L + (code.hashCode() & 0x7fffffffL);
+        delay();
+        respond(exchange, 200, "{\"id\":" + kakaoId
+                + ",\"kakao_account\":{\"profile\":{\"nickname\":\"stub-" + (kakaoId % 100_000) + "\"}}}");
+    }
+
+    private void delay() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String formValue(String body, String name) {
+        for (String pair : body.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}